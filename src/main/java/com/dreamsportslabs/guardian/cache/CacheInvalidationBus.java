@@ -0,0 +1,240 @@
+package com.dreamsportslabs.guardian.cache;
+
+import static com.dreamsportslabs.guardian.constant.Constants.CACHE_INVALIDATION_CHANNEL;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.google.inject.Singleton;
+import io.reactivex.rxjava3.core.Completable;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.rxjava3.core.Vertx;
+import io.vertx.rxjava3.redis.client.Command;
+import io.vertx.rxjava3.redis.client.Redis;
+import io.vertx.rxjava3.redis.client.RedisConnection;
+import io.vertx.rxjava3.redis.client.Request;
+import io.vertx.rxjava3.redis.client.Response;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Propagates cache invalidations to every Guardian node over Redis pub/sub. Each node holds one
+ * connection in subscribe mode, taken out of the shared client's pool, and evicts its local caches
+ * for the published tenant, or only the published client or scope catalogue. The subscription is
+ * re-established if the connection drops, until the bus is stopped.
+ */
+@Slf4j
+@Singleton
+@RequiredArgsConstructor(onConstructor = @__({@Inject}))
+public class CacheInvalidationBus {
+  private static final String MESSAGE_TYPE = "message";
+  private static final String TENANT_ID = "tenantId";
+  private static final String CLIENT_ID = "clientId";
+  private static final String RFT_IDS = "rftIds";
+  private static final String TARGET = "target";
+  private static final String TARGET_TENANT = "tenant";
+  private static final String TARGET_CLIENT = "client";
+  private static final String TARGET_SCOPES = "scopes";
+  private static final String TARGET_REVOCATIONS = "revocations";
+  private static final long RESUBSCRIBE_DELAY_MILLIS = 1000;
+  private static final long REVOCATIONS_NOTIFY_DELAY_MILLIS = 100;
+
+  private final Vertx vertx;
+  private final Redis redisClient;
+  private final TenantCache tenantCache;
+  private final ClientCache clientCache;
+  // Resolved lazily, the default client scopes cache depends on services that publish here
+  private final Provider<DefaultClientScopesCache> defaultClientScopesCache;
+  private final RevocationsCache revocationsCache;
+  private final ScopeCatalogueCache scopeCatalogueCache;
+  private final VerifiedTokenCache verifiedTokenCache;
+  // Refresh token ids revoked per tenant, waiting for the scheduled notification to publish them
+  private final Map<String, Set<String>> pendingRevocations = new ConcurrentHashMap<>();
+  private final AtomicReference<RedisConnection> subscription = new AtomicReference<>();
+  private final AtomicBoolean stopped = new AtomicBoolean();
+
+  public Completable publish(String tenantId) {
+    return publish(new JsonObject().put(TARGET, TARGET_TENANT).put(TENANT_ID, tenantId));
+  }
+
+  /**
+   * Evicts the client locally and on every other node. A failed publish is only logged, as the
+   * change has already been persisted and remote entries still expire on their own.
+   */
+  public Completable invalidateClient(String tenantId, String clientId) {
+    return Completable.defer(
+        () -> {
+          evictClient(tenantId, clientId);
+          return publishQuietly(
+              new JsonObject()
+                  .put(TARGET, TARGET_CLIENT)
+                  .put(TENANT_ID, tenantId)
+                  .put(CLIENT_ID, clientId));
+        });
+  }
+
+  /** Evicts the scope catalogue of the tenant locally and on every other node. */
+  public Completable invalidateScopes(String tenantId) {
+    return Completable.defer(
+        () -> {
+          scopeCatalogueCache.invalidateCache(tenantId);
+          return publishQuietly(
+              new JsonObject().put(TARGET, TARGET_SCOPES).put(TENANT_ID, tenantId));
+        });
+  }
+
+  /**
+   * Evicts the verified access tokens of the revoked refresh tokens on every node, and wakes up
+   * delta revocation readers long polling for the tenant. Notifications are coalesced, so a tenant
+   * is published at most once per delay however many logouts it sees.
+   */
+  public Completable notifyRevocations(String tenantId, Collection<String> rftIds) {
+    return Completable.fromAction(
+        () -> {
+          AtomicBoolean scheduled = new AtomicBoolean();
+          pendingRevocations.compute(
+              tenantId,
+              (tenant, pending) -> {
+                Set<String> revoked = pending;
+                if (revoked == null) {
+                  revoked = ConcurrentHashMap.newKeySet();
+                  scheduled.set(true);
+                }
+                revoked.addAll(rftIds);
+                return revoked;
+              });
+          if (scheduled.get()) {
+            vertx.setTimer(REVOCATIONS_NOTIFY_DELAY_MILLIS, id -> publishRevocations(tenantId));
+          }
+        });
+  }
+
+  private void publishRevocations(String tenantId) {
+    Set<String> rftIds = pendingRevocations.remove(tenantId);
+    publishQuietly(
+            new JsonObject()
+                .put(TARGET, TARGET_REVOCATIONS)
+                .put(TENANT_ID, tenantId)
+                .put(RFT_IDS, new JsonArray(List.copyOf(rftIds))))
+        .subscribe();
+  }
+
+  private Completable publishQuietly(JsonObject message) {
+    return publish(message)
+        .doOnError(err -> log.error("Failed to publish cache invalidation {}", message, err))
+        .onErrorComplete();
+  }
+
+  private Completable publish(JsonObject message) {
+    return redisClient
+        .rxSend(Request.cmd(Command.PUBLISH).arg(CACHE_INVALIDATION_CHANNEL).arg(message.encode()))
+        .ignoreElement();
+  }
+
+  public Completable subscribe() {
+    return redisClient
+        .rxConnect()
+        .flatMapCompletable(
+            connection -> {
+              connection.handler(this::handleMessage);
+              connection.exceptionHandler(
+                  err -> log.error("Cache invalidation subscription failed", err));
+              connection.endHandler(
+                  v -> {
+                    subscription.compareAndSet(connection, null);
+                    if (!stopped.get()) {
+                      resubscribe();
+                    }
+                  });
+              subscription.set(connection);
+              // stop() may have run while connecting, and would not have seen this connection
+              if (stopped.get()) {
+                connection.close();
+                return Completable.complete();
+              }
+              return connection
+                  .rxSend(Request.cmd(Command.SUBSCRIBE).arg(CACHE_INVALIDATION_CHANNEL))
+                  .ignoreElement()
+                  .doOnError(err -> connection.close());
+            })
+        .doOnComplete(() -> log.info("Subscribed to cache invalidation channel"));
+  }
+
+  /** Closes the subscription for good, so that shutting down the Redis client does not retry it. */
+  public void stop() {
+    stopped.set(true);
+    RedisConnection connection = subscription.getAndSet(null);
+    if (connection != null) {
+      connection.close();
+    }
+  }
+
+  private void resubscribe() {
+    log.warn("Cache invalidation subscription closed, resubscribing");
+    vertx.setTimer(
+        RESUBSCRIBE_DELAY_MILLIS,
+        id -> {
+          if (stopped.get()) {
+            return;
+          }
+          subscribe()
+              .subscribe(
+                  () -> {},
+                  err -> {
+                    log.error("Failed to resubscribe to cache invalidation channel", err);
+                    if (!stopped.get()) {
+                      resubscribe();
+                    }
+                  });
+        });
+  }
+
+  private void handleMessage(Response response) {
+    if (response.size() < 3 || !MESSAGE_TYPE.equals(response.get(0).toString())) {
+      return;
+    }
+
+    JsonObject message;
+    try {
+      message = new JsonObject(response.get(2).toString());
+    } catch (DecodeException e) {
+      log.warn("Dropping malformed cache invalidation message {}", response.get(2), e);
+      return;
+    }
+    String tenantId = message.getString(TENANT_ID);
+    if (tenantId == null) {
+      log.warn("Dropping cache invalidation message without a tenant {}", message);
+      return;
+    }
+    switch (message.getString(TARGET, TARGET_TENANT)) {
+      case TARGET_CLIENT -> evictClient(tenantId, message.getString(CLIENT_ID));
+      case TARGET_SCOPES -> scopeCatalogueCache.invalidateCache(tenantId);
+      case TARGET_REVOCATIONS -> {
+        JsonArray rftIds = message.getJsonArray(RFT_IDS, new JsonArray());
+        verifiedTokenCache.invalidateRefreshTokens(
+            tenantId, rftIds.stream().map(String.class::cast).toList());
+        revocationsCache.onRevocationsAdded(tenantId);
+      }
+      default -> {
+        tenantCache.invalidateCache(tenantId);
+        clientCache.invalidateTenant(tenantId);
+        defaultClientScopesCache.get().invalidateCache(tenantId);
+        revocationsCache.invalidateCache(tenantId);
+        scopeCatalogueCache.invalidateCache(tenantId);
+      }
+    }
+  }
+
+  private void evictClient(String tenantId, String clientId) {
+    clientCache.invalidate(tenantId, clientId);
+    defaultClientScopesCache.get().invalidateCache(tenantId);
+  }
+}
@@ -0,0 +1,85 @@
+package com.dreamsportslabs.guardian.cache;
+
+import static com.dreamsportslabs.guardian.constant.Constants.APPLICATION_CONFIG;
+import static com.dreamsportslabs.guardian.constant.Constants.CLIENT_CACHE_EXPIRY;
+import static com.dreamsportslabs.guardian.constant.Constants.CLIENT_CACHE_MAX_SIZE;
+
+import com.dreamsportslabs.guardian.dao.ClientDao;
+import com.dreamsportslabs.guardian.dao.ClientScopeDao;
+import com.dreamsportslabs.guardian.dao.model.ClientModel;
+import com.dreamsportslabs.guardian.dao.model.ClientScopeModel;
+import com.dreamsportslabs.guardian.utils.SharedDataUtils;
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.reactivex.rxjava3.core.Maybe;
+import io.vertx.core.json.JsonObject;
+import io.vertx.rxjava3.core.Vertx;
+import java.time.Duration;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Caches a client together with its scopes, keyed by tenant and client id. Unknown clients are not
+ * cached. Entries are evicted through {@link CacheInvalidationBus} whenever a client or its scopes
+ * change, and expire after a configurable interval as a fallback.
+ */
+@Slf4j
+@Singleton
+public class ClientCache {
+  private static final String CACHE_NAME = "client_cache";
+
+  private final AsyncLoadingCache<ClientKey, CachedClient> cache;
+
+  @Inject
+  public ClientCache(
+      ClientDao clientDao,
+      ClientScopeDao clientScopeDao,
+      Vertx vertx,
+      MeterRegistry meterRegistry) {
+    JsonObject config =
+        SharedDataUtils.get(vertx.getDelegate(), JsonObject.class, APPLICATION_CONFIG);
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumSize(Long.parseLong(config.getString(CLIENT_CACHE_MAX_SIZE)))
+            .expireAfterWrite(
+                Duration.ofSeconds(Long.parseLong(config.getString(CLIENT_CACHE_EXPIRY))))
+            .recordStats()
+            .buildAsync(getLoader(clientDao, clientScopeDao));
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+  }
+
+  private AsyncCacheLoader<ClientKey, CachedClient> getLoader(
+      ClientDao clientDao, ClientScopeDao clientScopeDao) {
+    return (key, executor) ->
+        clientDao
+            .getClient(key.clientId(), key.tenantId())
+            .flatMapSingle(
+                client ->
+                    clientScopeDao
+                        .getClientScopes(key.clientId(), key.tenantId())
+                        .map(scopes -> new CachedClient(client, List.copyOf(scopes))))
+            .toCompletionStage(null)
+            .toCompletableFuture();
+  }
+
+  public Maybe<CachedClient> get(String tenantId, String clientId) {
+    return Maybe.fromCompletionStage(cache.get(new ClientKey(tenantId, clientId)));
+  }
+
+  public void invalidate(String tenantId, String clientId) {
+    cache.synchronous().invalidate(new ClientKey(tenantId, clientId));
+  }
+
+  public void invalidateTenant(String tenantId) {
+    cache.asMap().keySet().removeIf(key -> tenantId.equals(key.tenantId()));
+  }
+
+  public record CachedClient(ClientModel client, List<ClientScopeModel> scopes) {}
+
+  private record ClientKey(String tenantId, String clientId) {}
+}
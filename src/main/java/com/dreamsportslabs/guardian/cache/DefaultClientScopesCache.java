@@ -69,4 +69,8 @@ public class DefaultClientScopesCache {
   public Single<Pair<String, List<String>>> getDefaultClientScopes(String key) {
     return Single.fromCompletionStage(this.cache.get(key));
   }
+
+  public void invalidateCache(String tenantId) {
+    this.cache.synchronous().invalidate(tenantId);
+  }
 }
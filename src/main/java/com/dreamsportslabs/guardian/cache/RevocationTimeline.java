@@ -0,0 +1,78 @@
+package com.dreamsportslabs.guardian.cache;
+
+import com.dreamsportslabs.guardian.dao.model.RevocationTimelineModel;
+import java.util.Arrays;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * Immutable, time ordered revocations of a tenant up to and including {@code coveredTo}. Windows
+ * are served as slices found by binary search, and refreshed revocations are merged into a new
+ * timeline, so readers never observe a partial update.
+ */
+final class RevocationTimeline {
+  private final String[] rftIds;
+  private final long[] revokedAt;
+  @Getter private final long coveredTo;
+  @Getter private final long loadedAtMillis;
+
+  private RevocationTimeline(
+      String[] rftIds, long[] revokedAt, long coveredTo, long loadedAtMillis) {
+    this.rftIds = rftIds;
+    this.revokedAt = revokedAt;
+    this.coveredTo = coveredTo;
+    this.loadedAtMillis = loadedAtMillis;
+  }
+
+  static RevocationTimeline of(RevocationTimelineModel model, long coveredTo) {
+    return new RevocationTimeline(
+        model.getRftIds().toArray(new String[0]),
+        model.getRevokedAt().stream().mapToLong(Long::longValue).toArray(),
+        coveredTo,
+        System.currentTimeMillis());
+  }
+
+  /**
+   * Replaces the revocations made after the timestamp with the given ones, which must all be after
+   * it. Revocations that landed late with an older time are picked up, and none are duplicated.
+   */
+  RevocationTimeline replaceAfter(long afterEpoch, RevocationTimelineModel model, long coveredTo) {
+    int size = firstIndexAfter(afterEpoch);
+    if (size == rftIds.length && model.getRftIds().isEmpty()) {
+      return new RevocationTimeline(rftIds, revokedAt, coveredTo, loadedAtMillis);
+    }
+
+    String[] mergedRftIds = Arrays.copyOf(rftIds, size + model.getRftIds().size());
+    long[] mergedRevokedAt = Arrays.copyOf(revokedAt, mergedRftIds.length);
+    for (int i = 0; i < model.getRftIds().size(); i++) {
+      mergedRftIds[size + i] = model.getRftIds().get(i);
+      mergedRevokedAt[size + i] = model.getRevokedAt().get(i);
+    }
+    return new RevocationTimeline(mergedRftIds, mergedRevokedAt, coveredTo, loadedAtMillis);
+  }
+
+  /** Returns the revocations made between the two timestamps, both inclusive. */
+  List<String> slice(long fromEpoch, long toEpoch) {
+    int start = firstIndexAfter(fromEpoch - 1);
+    int end = Math.max(start, firstIndexAfter(toEpoch));
+    return List.of(Arrays.copyOfRange(rftIds, start, end));
+  }
+
+  int size() {
+    return rftIds.length;
+  }
+
+  private int firstIndexAfter(long timestamp) {
+    int low = 0;
+    int high = revokedAt.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (revokedAt[mid] <= timestamp) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+}
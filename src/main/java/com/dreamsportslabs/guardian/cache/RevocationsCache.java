@@ -1,53 +1,216 @@
 package com.dreamsportslabs.guardian.cache;
 
+import static com.dreamsportslabs.guardian.constant.Constants.APPLICATION_CONFIG;
+import static com.dreamsportslabs.guardian.constant.Constants.REVOCATIONS_CACHE_EXPIRY;
+import static com.dreamsportslabs.guardian.constant.Constants.REVOCATIONS_CACHE_MAX_SKEW;
+import static com.dreamsportslabs.guardian.constant.Constants.REVOCATIONS_CACHE_MAX_WEIGHT;
+import static com.dreamsportslabs.guardian.constant.Constants.REVOCATIONS_CACHE_REFRESH_INTERVAL;
+import static com.dreamsportslabs.guardian.constant.Constants.REVOCATIONS_CACHE_RELOAD_INTERVAL;
+import static com.dreamsportslabs.guardian.constant.Constants.REVOCATIONS_KEY_SEPARATOR;
+import static com.dreamsportslabs.guardian.exception.ErrorEnum.INTERNAL_SERVER_ERROR;
+import static com.dreamsportslabs.guardian.utils.Utils.getCurrentTimeInSeconds;
+
 import com.dreamsportslabs.guardian.dao.RevocationDao;
+import com.dreamsportslabs.guardian.utils.SharedDataUtils;
 import com.dreamsportslabs.guardian.utils.VertxUtil;
+import com.github.benmanes.caffeine.cache.AsyncCache;
 import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
 import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.reactivex.rxjava3.core.Completable;
 import io.reactivex.rxjava3.core.Single;
+import io.reactivex.rxjava3.subjects.PublishSubject;
+import io.reactivex.rxjava3.subjects.Subject;
+import io.vertx.core.json.JsonObject;
+import io.vertx.rxjava3.core.RxHelper;
 import io.vertx.rxjava3.core.Vertx;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Caches one rolling revocation timeline per tenant, bounded by the total number of revocations
+ * held. Windows are served as slices of the timeline. Refreshes only fetch the recent tail of the
+ * timeline again, and concurrent misses or refreshes of a tenant share a single Redis read.
+ */
 @Slf4j
 @Singleton
 public class RevocationsCache {
-  private final AsyncLoadingCache<String, List<String>> cache;
+  private final AsyncLoadingCache<String, RevocationTimeline> cache;
+  // Encoded binary snapshots, keyed by the tenant, the window and the snapshot variant
+  private final AsyncCache<String, byte[]> snapshots;
+  private final Vertx vertx;
+  // Tenants with newly added revocations, signalled to long polling delta readers
+  private final Subject<String> revocationsAdded = PublishSubject.<String>create().toSerialized();
   private static final String CACHE_NAME = "REVOCATION_CACHE";
-  private static final long REVOCATIONS_EXPIRY = 120;
+  private static final String METRICS_CACHE_NAME = "revocations_cache";
+  private static final long SNAPSHOTS_MAX_SIZE = 1000;
 
   @Inject
-  public RevocationsCache(RevocationDao revocationDao, Vertx vertx) {
-    this.cache = getOrCreateCacheInSharedData(revocationDao, vertx);
+  public RevocationsCache(RevocationDao revocationDao, Vertx vertx, MeterRegistry meterRegistry) {
+    JsonObject config =
+        SharedDataUtils.get(vertx.getDelegate(), JsonObject.class, APPLICATION_CONFIG);
+    long refreshInterval = Long.parseLong(config.getString(REVOCATIONS_CACHE_REFRESH_INTERVAL));
+    this.cache = getOrCreateCacheInSharedData(revocationDao, vertx, meterRegistry, config);
+    this.vertx = vertx;
+    this.snapshots =
+        Caffeine.newBuilder()
+            .maximumSize(SNAPSHOTS_MAX_SIZE)
+            .expireAfterWrite(refreshInterval, TimeUnit.SECONDS)
+            .buildAsync();
   }
 
-  private AsyncLoadingCache<String, List<String>> getOrCreateCacheInSharedData(
-      RevocationDao revocationDao, Vertx vertx) {
+  private AsyncLoadingCache<String, RevocationTimeline> getOrCreateCacheInSharedData(
+      RevocationDao revocationDao, Vertx vertx, MeterRegistry meterRegistry, JsonObject config) {
     return VertxUtil.getOrCreateSharedData(
         vertx.getDelegate(),
         CACHE_NAME,
-        () ->
-            Caffeine.newBuilder()
-                .executor(
-                    cmd -> {
-                      Objects.requireNonNull(Vertx.currentContext());
-                      Vertx.currentContext().runOnContext(v -> cmd.run());
-                    })
-                .expireAfterWrite(REVOCATIONS_EXPIRY, TimeUnit.SECONDS)
-                .buildAsync(getLoader(revocationDao)));
+        () -> {
+          AsyncLoadingCache<String, RevocationTimeline> timelines =
+              Caffeine.newBuilder()
+                  .executor(
+                      cmd -> {
+                        Objects.requireNonNull(Vertx.currentContext());
+                        Vertx.currentContext().runOnContext(v -> cmd.run());
+                      })
+                  .maximumWeight(Long.parseLong(config.getString(REVOCATIONS_CACHE_MAX_WEIGHT)))
+                  .weigher((String tenantId, RevocationTimeline timeline) -> timeline.size() + 1)
+                  .refreshAfterWrite(
+                      Long.parseLong(config.getString(REVOCATIONS_CACHE_REFRESH_INTERVAL)),
+                      TimeUnit.SECONDS)
+                  .expireAfterAccess(
+                      Long.parseLong(config.getString(REVOCATIONS_CACHE_EXPIRY)), TimeUnit.SECONDS)
+                  .recordStats()
+                  .buildAsync(
+                      getLoader(
+                          revocationDao,
+                          TimeUnit.SECONDS.toMillis(
+                              Long.parseLong(config.getString(REVOCATIONS_CACHE_RELOAD_INTERVAL))),
+                          Long.parseLong(config.getString(REVOCATIONS_CACHE_MAX_SKEW))));
+          CaffeineCacheMetrics.monitor(meterRegistry, timelines, METRICS_CACHE_NAME);
+          return timelines;
+        });
+  }
+
+  // Revocations of the current second may still be landing, so a timeline covers up to the second
+  // before. Revocations are scored with the clock of the revoking node and written asynchronously,
+  // so a refresh re-reads the last maxSkew seconds and replaces that tail of the timeline rather
+  // than only appending what scored after it. Full reloads at the reload interval drop the entries
+  // trimmed by the compactor.
+  private AsyncCacheLoader<String, RevocationTimeline> getLoader(
+      RevocationDao revocationDao, long reloadIntervalMillis, long maxSkew) {
+    return new AsyncCacheLoader<>() {
+      @Override
+      public CompletableFuture<RevocationTimeline> asyncLoad(String tenantId, Executor executor) {
+        long now = getCurrentTimeInSeconds();
+        return revocationDao
+            .getRevocationTimeline(tenantId, null, now)
+            .map(model -> RevocationTimeline.of(model, now - 1))
+            .toCompletionStage()
+            .toCompletableFuture();
+      }
+
+      @Override
+      public CompletableFuture<RevocationTimeline> asyncReload(
+          String tenantId, RevocationTimeline oldValue, Executor executor) {
+        if (System.currentTimeMillis() - oldValue.getLoadedAtMillis() >= reloadIntervalMillis) {
+          return asyncLoad(tenantId, executor);
+        }
+
+        long now = getCurrentTimeInSeconds();
+        if (now - 1 <= oldValue.getCoveredTo()) {
+          return CompletableFuture.completedFuture(oldValue);
+        }
+        long afterEpoch = oldValue.getCoveredTo() - maxSkew;
+        return revocationDao
+            .getRevocationTimeline(tenantId, afterEpoch, now)
+            .map(model -> oldValue.replaceAfter(afterEpoch, model, now - 1))
+            .toCompletionStage()
+            .toCompletableFuture();
+      }
+    };
+  }
+
+  /**
+   * Returns the revocations of the tenant made between the two timestamps, both inclusive. The
+   * window must end before the current second.
+   */
+  public Single<List<String>> getRevocationList(String tenantId, long fromEpoch, long toEpoch) {
+    return Single.fromCompletionStage(this.cache.get(tenantId))
+        .flatMap(timeline -> getTimelineCovering(tenantId, timeline, toEpoch, 1))
+        .map(timeline -> timeline.slice(fromEpoch, toEpoch));
+  }
+
+  // A timeline that ends before the window would silently drop the revocations made after it, so
+  // it is refreshed first. Readers of a tenant share one in-flight refresh, and a refresh that was
+  // already running when the window ended is followed by one more.
+  private Single<RevocationTimeline> getTimelineCovering(
+      String tenantId, RevocationTimeline timeline, long toEpoch, int refreshes) {
+    if (timeline.getCoveredTo() >= toEpoch) {
+      return Single.just(timeline);
+    }
+    if (refreshes < 0) {
+      return Single.error(INTERNAL_SERVER_ERROR.getException());
+    }
+    return Single.fromCompletionStage(this.cache.synchronous().refresh(tenantId))
+        .flatMap(refreshed -> getTimelineCovering(tenantId, refreshed, toEpoch, refreshes - 1));
+  }
+
+  /**
+   * Returns the revocations of the window encoded by the encoder. Encoding runs on a worker thread
+   * once per window and variant, and the result is shared by every poller of the same window.
+   */
+  public Single<byte[]> getRevocationSnapshot(
+      String tenantId,
+      long fromEpoch,
+      long toEpoch,
+      String variant,
+      Function<List<String>, byte[]> encoder) {
+    return Single.fromCompletionStage(
+        this.snapshots.get(
+            String.join(
+                REVOCATIONS_KEY_SEPARATOR,
+                tenantId,
+                String.valueOf(fromEpoch),
+                String.valueOf(toEpoch),
+                variant),
+            (snapshotKey, executor) ->
+                getRevocationList(tenantId, fromEpoch, toEpoch)
+                    .flatMap(
+                        revocations ->
+                            vertx
+                                .<byte[]>rxExecuteBlocking(
+                                    promise -> promise.complete(encoder.apply(revocations)), false)
+                                .toSingle())
+                    .toCompletionStage()
+                    .toCompletableFuture()));
+  }
+
+  public void onRevocationsAdded(String tenantId) {
+    revocationsAdded.onNext(tenantId);
   }
 
-  private AsyncCacheLoader<String, List<String>> getLoader(RevocationDao revocationDao) {
-    return (tenantId, executor) ->
-        revocationDao.getRevocations(tenantId).toCompletionStage().toCompletableFuture();
+  /** Completes when revocations are added for the tenant, or once the timeout elapses. */
+  public Completable awaitRevocations(String tenantId, long timeoutSeconds) {
+    return revocationsAdded
+        .filter(tenantId::equals)
+        .firstElement()
+        .ignoreElement()
+        .timeout(
+            timeoutSeconds, TimeUnit.SECONDS, RxHelper.scheduler(vertx), Completable.complete());
   }
 
-  public Single<List<String>> getRevocationList(String key) {
-    return Single.fromCompletionStage(this.cache.get(key));
+  public void invalidateCache(String tenantId) {
+    String prefix = tenantId + REVOCATIONS_KEY_SEPARATOR;
+    this.cache.synchronous().invalidate(tenantId);
+    this.snapshots.asMap().keySet().removeIf(key -> key.startsWith(prefix));
   }
 }
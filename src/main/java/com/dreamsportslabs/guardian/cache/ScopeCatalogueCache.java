@@ -0,0 +1,118 @@
+package com.dreamsportslabs.guardian.cache;
+
+import static com.dreamsportslabs.guardian.constant.Constants.APPLICATION_CONFIG;
+import static com.dreamsportslabs.guardian.constant.Constants.TENANT_CONFIG_REFRESH_INTERVAL;
+
+import com.dreamsportslabs.guardian.dao.ScopeDao;
+import com.dreamsportslabs.guardian.dao.model.ScopeModel;
+import com.dreamsportslabs.guardian.utils.SharedDataUtils;
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.reactivex.rxjava3.core.Single;
+import io.vertx.core.json.JsonObject;
+import io.vertx.rxjava3.core.Vertx;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Holds every scope of a tenant in memory with the claims of each scope precomputed, so resolving
+ * the claims of a requested scope set needs no database round trip. Catalogues are refreshed in the
+ * background on the tenant config interval and evicted through {@link CacheInvalidationBus}
+ * whenever a scope changes.
+ */
+@Slf4j
+@Singleton
+public class ScopeCatalogueCache {
+  private static final String CACHE_NAME = "scope_catalogue_cache";
+
+  private final AsyncLoadingCache<String, ScopeCatalogue> cache;
+
+  @Inject
+  public ScopeCatalogueCache(ScopeDao scopeDao, Vertx vertx, MeterRegistry meterRegistry) {
+    JsonObject config =
+        SharedDataUtils.get(vertx.getDelegate(), JsonObject.class, APPLICATION_CONFIG);
+    this.cache =
+        Caffeine.newBuilder()
+            .refreshAfterWrite(
+                Duration.ofSeconds(
+                    Long.parseLong(config.getString(TENANT_CONFIG_REFRESH_INTERVAL))))
+            .recordStats()
+            .buildAsync(getLoader(scopeDao));
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+  }
+
+  private AsyncCacheLoader<String, ScopeCatalogue> getLoader(ScopeDao scopeDao) {
+    return (tenantId, executor) ->
+        scopeDao
+            .getAllScopes(tenantId)
+            .map(ScopeCatalogue::new)
+            .toCompletionStage()
+            .toCompletableFuture();
+  }
+
+  public Single<ScopeCatalogue> getCatalogue(String tenantId) {
+    return Single.fromCompletionStage(cache.get(tenantId));
+  }
+
+  /** Distinct claims of the given scopes, in scope order. Unknown scopes are ignored. */
+  public Single<List<String>> getClaims(String tenantId, Collection<String> scopes) {
+    return getCatalogue(tenantId).map(catalogue -> catalogue.getClaims(scopes));
+  }
+
+  public void invalidateCache(String tenantId) {
+    cache.synchronous().invalidate(tenantId);
+  }
+
+  public static class ScopeCatalogue {
+    private final Map<String, List<String>> claimsByScope;
+    private final List<String> oidcScopes;
+    private final List<String> oidcClaims;
+
+    ScopeCatalogue(List<ScopeModel> scopeModels) {
+      Map<String, List<String>> claims = new HashMap<>();
+      List<String> scopes = new ArrayList<>();
+      List<String> scopeClaims = new ArrayList<>();
+      for (ScopeModel scopeModel : scopeModels) {
+        List<String> modelClaims =
+            scopeModel.getClaims() == null ? List.of() : List.copyOf(scopeModel.getClaims());
+        claims.put(scopeModel.getName(), modelClaims);
+        if (Boolean.TRUE.equals(scopeModel.getIsOidc())) {
+          scopes.add(scopeModel.getName());
+          scopeClaims.addAll(modelClaims);
+        }
+      }
+
+      this.claimsByScope = Map.copyOf(claims);
+      this.oidcScopes = List.copyOf(scopes);
+      this.oidcClaims = List.copyOf(scopeClaims);
+    }
+
+    public List<String> getClaims(Collection<String> scopes) {
+      Set<String> claims = new LinkedHashSet<>();
+      for (String scope : scopes) {
+        claims.addAll(claimsByScope.getOrDefault(scope, List.of()));
+      }
+      return List.copyOf(claims);
+    }
+
+    public List<String> getOidcScopes() {
+      return oidcScopes;
+    }
+
+    public List<String> getOidcClaims() {
+      return oidcClaims;
+    }
+  }
+}
@@ -5,11 +5,15 @@ import com.dreamsportslabs.guardian.dao.ConfigDao;
 import com.dreamsportslabs.guardian.injection.GuiceInjector;
 import com.dreamsportslabs.guardian.registry.Registry;
 import com.dreamsportslabs.guardian.registry.RegistryInit;
+import com.dreamsportslabs.guardian.service.IdpTokenVerifierRegistry;
+import com.dreamsportslabs.guardian.service.TokenSigningExecutor;
 import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
 import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import io.reactivex.rxjava3.core.Single;
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -17,6 +21,9 @@ public class TenantCache {
   private final AsyncLoadingCache<String, TenantConfig> cache;
   private static TenantCache tenantCache;
   private final Registry registry;
+  private final VerifiedTokenCache verifiedTokenCache;
+  private final IdpTokenVerifierRegistry idpTokenVerifierRegistry;
+  private final TokenSigningExecutor tokenSigningExecutor;
 
   private TenantCache(int refreshInterval) {
     this.cache =
@@ -24,6 +31,12 @@ public class TenantCache {
             .refreshAfterWrite(Duration.ofSeconds(refreshInterval))
             .buildAsync(getLoader(GuiceInjector.getGuiceInjector().getInstance(ConfigDao.class)));
     this.registry = GuiceInjector.getGuiceInjector().getInstance(Registry.class);
+    this.verifiedTokenCache =
+        GuiceInjector.getGuiceInjector().getInstance(VerifiedTokenCache.class);
+    this.idpTokenVerifierRegistry =
+        GuiceInjector.getGuiceInjector().getInstance(IdpTokenVerifierRegistry.class);
+    this.tokenSigningExecutor =
+        GuiceInjector.getGuiceInjector().getInstance(TokenSigningExecutor.class);
   }
 
   public static synchronized TenantCache getInstance(int refreshInterval) {
@@ -38,17 +51,46 @@ public class TenantCache {
     return Single.fromCompletionStage(cache.get(tenantId));
   }
 
+  // Refreshes first compare the config version stamp, so an unchanged tenant costs one indexed
+  // lookup instead of a full reload and registry rebuild. The stamp of the cached config is loaded
+  // in the same query as the config itself. A changed config may have dropped a signing key, so
+  // the claims verified under the old config are evicted once the new one is installed
   private AsyncCacheLoader<String, TenantConfig> getLoader(ConfigDao configDao) {
-    return (tenantId, executor) ->
-        configDao
-            .getTenantConfig(tenantId)
-            .map(config -> RegistryInit.initializeRegistry(registry, config))
+    return new AsyncCacheLoader<>() {
+      @Override
+      public CompletableFuture<TenantConfig> asyncLoad(String tenantId, Executor executor) {
+        return load(configDao, tenantId).toCompletionStage().toCompletableFuture();
+      }
+
+      @Override
+      public CompletableFuture<TenantConfig> asyncReload(
+          String tenantId, TenantConfig oldValue, Executor executor) {
+        return configDao
+            .getTenantConfigVersion(tenantId)
+            .flatMap(
+                version ->
+                    version.equals(oldValue.getVersion())
+                        ? Single.just(oldValue)
+                        : load(configDao, tenantId)
+                            .doOnSuccess(config -> verifiedTokenCache.invalidateTenant(tenantId)))
             .toCompletionStage()
             .toCompletableFuture();
+      }
+    };
+  }
+
+  private Single<TenantConfig> load(ConfigDao configDao, String tenantId) {
+    return configDao
+        .getTenantConfig(tenantId)
+        .map(config -> RegistryInit.initializeRegistry(registry, config))
+        .doOnSuccess(idpTokenVerifierRegistry::warmUp)
+        .doOnSuccess(config -> tokenSigningExecutor.registerTenant(tenantId));
   }
 
   public void invalidateCache(String tenantId) {
     cache.synchronous().invalidate(tenantId);
+    verifiedTokenCache.invalidateTenant(tenantId);
+    tokenSigningExecutor.removeTenant(tenantId);
     log.info("Tenant cache invalidated for tenantId: {}", tenantId);
   }
 }
@@ -0,0 +1,151 @@
+package com.dreamsportslabs.guardian.cache;
+
+import static com.dreamsportslabs.guardian.constant.Constants.APPLICATION_CONFIG;
+import static com.dreamsportslabs.guardian.constant.Constants.VERIFIED_TOKEN_CACHE_MAX_SIZE;
+
+import com.dreamsportslabs.guardian.utils.SharedDataUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.google.common.hash.Hashing;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.vertx.core.json.JsonObject;
+import io.vertx.rxjava3.core.Vertx;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Caches the claims of access tokens that have already passed signature verification, keyed by
+ * tenant and a SHA-256 digest of the token. Entries expire at the token's own exp, so a cached
+ * token is never served past its lifetime. The cache keys are indexed by tenant and refresh token,
+ * so that a logout or a tenant change evicts only its own entries instead of scanning the cache.
+ */
+@Slf4j
+@Singleton
+public class VerifiedTokenCache {
+  private static final String CACHE_NAME = "verified_token_cache";
+  private static final String KEY_SEPARATOR = "_";
+  // Index key for tokens that do not carry a refresh token id
+  private static final String NO_RFT_ID = "";
+
+  private final Cache<String, VerifiedToken> cache;
+  private final Map<String, Map<String, Set<String>>> keysByTenant = new ConcurrentHashMap<>();
+
+  @Inject
+  public VerifiedTokenCache(Vertx vertx, MeterRegistry meterRegistry) {
+    JsonObject config =
+        SharedDataUtils.get(vertx.getDelegate(), JsonObject.class, APPLICATION_CONFIG);
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumSize(Long.parseLong(config.getString(VERIFIED_TOKEN_CACHE_MAX_SIZE)))
+            .expireAfter(new TokenExpiry())
+            .evictionListener(
+                (String key, VerifiedToken token, RemovalCause cause) -> unindex(key, token))
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+  }
+
+  public Map<String, Object> get(String tenantId, String token, Supplier<VerifiedToken> verifier) {
+    return cache
+        .get(
+            getKey(tenantId, token),
+            key -> {
+              VerifiedToken verifiedToken = verifier.get();
+              index(key, verifiedToken);
+              return verifiedToken;
+            })
+        .claims();
+  }
+
+  public void invalidateRefreshTokens(String tenantId, Collection<String> rftIds) {
+    Map<String, Set<String>> tenantKeys = keysByTenant.get(tenantId);
+    if (tenantKeys == null) {
+      return;
+    }
+    for (String rftId : rftIds) {
+      Set<String> keys = tenantKeys.remove(rftId);
+      if (keys != null) {
+        cache.invalidateAll(keys);
+      }
+    }
+  }
+
+  public void invalidateTenant(String tenantId) {
+    Map<String, Set<String>> tenantKeys = keysByTenant.get(tenantId);
+    if (tenantKeys != null) {
+      invalidateRefreshTokens(tenantId, List.copyOf(tenantKeys.keySet()));
+    }
+  }
+
+  // The per refresh token key sets are only changed inside compute, so a key is never added to a
+  // set that a concurrent eviction has just dropped from the index
+  private void index(String key, VerifiedToken token) {
+    keysByTenant
+        .computeIfAbsent(token.tenantId(), tenantId -> new ConcurrentHashMap<>())
+        .compute(
+            getRftId(token),
+            (rftId, keys) -> {
+              Set<String> indexed = keys == null ? ConcurrentHashMap.newKeySet() : keys;
+              indexed.add(key);
+              return indexed;
+            });
+  }
+
+  private void unindex(String key, VerifiedToken token) {
+    Map<String, Set<String>> tenantKeys = keysByTenant.get(token.tenantId());
+    if (tenantKeys == null) {
+      return;
+    }
+    tenantKeys.computeIfPresent(
+        getRftId(token),
+        (rftId, keys) -> {
+          keys.remove(key);
+          return keys.isEmpty() ? null : keys;
+        });
+  }
+
+  private String getRftId(VerifiedToken token) {
+    return token.rftId() == null ? NO_RFT_ID : token.rftId();
+  }
+
+  private String getKey(String tenantId, String token) {
+    return tenantId
+        + KEY_SEPARATOR
+        + Hashing.sha256().hashString(token, StandardCharsets.UTF_8).toString();
+  }
+
+  public record VerifiedToken(
+      String tenantId, String rftId, long expiresAtEpochSeconds, Map<String, Object> claims) {}
+
+  private static class TokenExpiry implements Expiry<String, VerifiedToken> {
+    @Override
+    public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+      long ttlSeconds = value.expiresAtEpochSeconds() - System.currentTimeMillis() / 1000;
+      return TimeUnit.SECONDS.toNanos(Math.max(ttlSeconds, 0));
+    }
+
+    @Override
+    public long expireAfterUpdate(
+        String key, VerifiedToken value, long currentTime, long currentDuration) {
+      return expireAfterCreate(key, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(
+        String key, VerifiedToken value, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
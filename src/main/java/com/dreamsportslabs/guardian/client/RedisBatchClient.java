@@ -0,0 +1,117 @@
+package com.dreamsportslabs.guardian.client;
+
+import static com.dreamsportslabs.guardian.constant.Constants.REDIS_READER;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.reactivex.rxjava3.core.Maybe;
+import io.reactivex.rxjava3.core.Single;
+import io.vertx.rxjava3.redis.client.Command;
+import io.vertx.rxjava3.redis.client.Redis;
+import io.vertx.rxjava3.redis.client.Request;
+import io.vertx.rxjava3.redis.client.Response;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Sends Redis commands that belong to one logical operation in a single network write, either as a
+ * pipelined batch or as a Lua script when the commands must apply atomically. Every call is timed
+ * under a command group, so latency can be tracked per flow rather than per Redis command.
+ */
+@Slf4j
+@Singleton
+public class RedisBatchClient {
+  private static final String METRIC_LATENCY = "guardian.redis.command.latency";
+  private static final String TAG_GROUP = "group";
+  private static final String NO_SCRIPT_ERROR = "NOSCRIPT";
+
+  private final Redis redisClient;
+  private final Redis redisReaderClient;
+  private final MeterRegistry meterRegistry;
+  private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+  @Inject
+  public RedisBatchClient(
+      Redis redisClient,
+      @Named(REDIS_READER) Redis redisReaderClient,
+      MeterRegistry meterRegistry) {
+    this.redisClient = redisClient;
+    this.redisReaderClient = redisReaderClient;
+    this.meterRegistry = meterRegistry;
+  }
+
+  public Maybe<Response> send(String group, Request request) {
+    return send(redisClient, group, request);
+  }
+
+  /**
+   * Sends a read-only command that may be served by a replica, so it is only meant for reads that
+   * can tolerate a short replication lag.
+   */
+  public Maybe<Response> read(String group, Request request) {
+    return send(redisReaderClient, group, request);
+  }
+
+  /**
+   * Pipelines the requests without MULTI, the responses are in request order. With the cluster
+   * client all requests must hash to the same slot.
+   */
+  public Single<List<Response>> batch(String group, List<Request> requests) {
+    return Single.defer(
+        () -> {
+          Timer.Sample sample = Timer.start(meterRegistry);
+          return redisClient.rxBatch(requests).doFinally(() -> sample.stop(getTimer(group)));
+        });
+  }
+
+  /** Runs the script by its digest, loading it with EVAL only when Redis does not have it yet. */
+  public Maybe<Response> eval(
+      String group, RedisScript script, List<String> keys, List<String> args) {
+    return send(group, getScriptRequest(Command.EVALSHA, script.sha(), keys, args))
+        .onErrorResumeNext(
+            err ->
+                err.getMessage() != null && err.getMessage().startsWith(NO_SCRIPT_ERROR)
+                    ? send(group, getScriptRequest(Command.EVAL, script.script(), keys, args))
+                    : Maybe.error(err));
+  }
+
+  /** Reads and deletes the key in one atomic step, so only one caller can ever get the value. */
+  public Maybe<Response> getDel(String group, String key) {
+    return send(group, Request.cmd(Command.GETDEL).arg(key));
+  }
+
+  private Maybe<Response> send(Redis client, String group, Request request) {
+    return Maybe.defer(
+        () -> {
+          Timer.Sample sample = Timer.start(meterRegistry);
+          return client.rxSend(request).doFinally(() -> sample.stop(getTimer(group)));
+        });
+  }
+
+  private Request getScriptRequest(
+      Command command, String script, List<String> keys, List<String> args) {
+    Request request = Request.cmd(command).arg(script).arg(keys.size());
+    for (String key : keys) {
+      request.arg(key);
+    }
+    for (String arg : args) {
+      request.arg(arg);
+    }
+    return request;
+  }
+
+  private Timer getTimer(String group) {
+    return timers.computeIfAbsent(
+        group,
+        key ->
+            Timer.builder(METRIC_LATENCY)
+                .tag(TAG_GROUP, key)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+  }
+}
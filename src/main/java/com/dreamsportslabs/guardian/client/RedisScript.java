@@ -0,0 +1,11 @@
+package com.dreamsportslabs.guardian.client;
+
+import org.apache.commons.codec.digest.DigestUtils;
+
+/** A Lua script together with the SHA1 digest Redis caches it under. */
+public record RedisScript(String script, String sha) {
+
+  public static RedisScript of(String script) {
+    return new RedisScript(script, DigestUtils.sha1Hex(script));
+  }
+}
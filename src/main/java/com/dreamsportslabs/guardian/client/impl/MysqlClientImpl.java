@@ -1,7 +1,14 @@
 package com.dreamsportslabs.guardian.client.impl;
 
+import static com.dreamsportslabs.guardian.constant.Constants.MYSQL_CACHE_PREPARED_STATEMENTS;
 import static com.dreamsportslabs.guardian.constant.Constants.MYSQL_DATABASE;
+import static com.dreamsportslabs.guardian.constant.Constants.MYSQL_MAX_WAIT_QUEUE_SIZE;
 import static com.dreamsportslabs.guardian.constant.Constants.MYSQL_PASSWORD;
+import static com.dreamsportslabs.guardian.constant.Constants.MYSQL_PIPELINING_LIMIT;
+import static com.dreamsportslabs.guardian.constant.Constants.MYSQL_POOL_CONNECTION_TIMEOUT;
+import static com.dreamsportslabs.guardian.constant.Constants.MYSQL_POOL_EVENT_LOOP_SIZE;
+import static com.dreamsportslabs.guardian.constant.Constants.MYSQL_POOL_IDLE_TIMEOUT;
+import static com.dreamsportslabs.guardian.constant.Constants.MYSQL_PREPARED_STATEMENT_CACHE_MAX_SIZE;
 import static com.dreamsportslabs.guardian.constant.Constants.MYSQL_READER_HOST;
 import static com.dreamsportslabs.guardian.constant.Constants.MYSQL_READER_MAX_POOL_SIZE;
 import static com.dreamsportslabs.guardian.constant.Constants.MYSQL_USER;
@@ -10,13 +17,18 @@ import static com.dreamsportslabs.guardian.constant.Constants.MYSQL_WRITER_MAX_P
 
 import com.dreamsportslabs.guardian.client.MysqlClient;
 import io.reactivex.rxjava3.core.Completable;
+import io.vertx.core.impl.cpu.CpuCoreSensor;
 import io.vertx.core.json.JsonObject;
 import io.vertx.mysqlclient.MySQLConnectOptions;
 import io.vertx.rxjava3.core.Vertx;
 import io.vertx.rxjava3.mysqlclient.MySQLPool;
 import io.vertx.sqlclient.PoolOptions;
+import java.util.concurrent.TimeUnit;
 
 public class MysqlClientImpl implements MysqlClient {
+  private static final String WRITER_POOL_NAME = "guardian-mysql-writer";
+  private static final String READER_POOL_NAME = "guardian-mysql-reader";
+
   private final Vertx vertx;
   private final JsonObject config;
   private MySQLPool writerPool;
@@ -38,28 +50,49 @@ public class MysqlClientImpl implements MysqlClient {
   }
 
   private void createConnectionPool() {
-    MySQLConnectOptions writerConnectOptions =
-        new MySQLConnectOptions()
-            .setHost(this.config.getString(MYSQL_WRITER_HOST))
-            .setUser(this.config.getString(MYSQL_USER))
-            .setPassword(this.config.getString(MYSQL_PASSWORD))
-            .setDatabase(this.config.getString(MYSQL_DATABASE));
-    PoolOptions writerPoolOptions =
-        new PoolOptions()
-            .setMaxSize(Integer.parseInt(this.config.getString(MYSQL_WRITER_MAX_POOL_SIZE)));
+    this.writerPool =
+        MySQLPool.pool(
+            this.vertx,
+            getConnectOptions(MYSQL_WRITER_HOST, WRITER_POOL_NAME),
+            getPoolOptions(MYSQL_WRITER_MAX_POOL_SIZE, WRITER_POOL_NAME));
+    this.readerPool =
+        MySQLPool.pool(
+            this.vertx,
+            getConnectOptions(MYSQL_READER_HOST, READER_POOL_NAME),
+            getPoolOptions(MYSQL_READER_MAX_POOL_SIZE, READER_POOL_NAME));
+  }
 
-    MySQLConnectOptions readerConnectOptions =
+  private MySQLConnectOptions getConnectOptions(String hostKey, String name) {
+    MySQLConnectOptions connectOptions =
         new MySQLConnectOptions()
-            .setHost(this.config.getString(MYSQL_READER_HOST))
+            .setHost(this.config.getString(hostKey))
             .setUser(this.config.getString(MYSQL_USER))
             .setPassword(this.config.getString(MYSQL_PASSWORD))
-            .setDatabase(this.config.getString(MYSQL_DATABASE));
-    PoolOptions readerPoolOptions =
-        new PoolOptions()
-            .setMaxSize(Integer.parseInt(this.config.getString(MYSQL_READER_MAX_POOL_SIZE)));
+            .setDatabase(this.config.getString(MYSQL_DATABASE))
+            .setPipeliningLimit(Integer.parseInt(this.config.getString(MYSQL_PIPELINING_LIMIT)))
+            .setCachePreparedStatements(
+                Boolean.parseBoolean(this.config.getString(MYSQL_CACHE_PREPARED_STATEMENTS)))
+            .setPreparedStatementCacheMaxSize(
+                Integer.parseInt(this.config.getString(MYSQL_PREPARED_STATEMENT_CACHE_MAX_SIZE)));
+    connectOptions.setMetricsName(name);
+    return connectOptions;
+  }
 
-    this.writerPool = MySQLPool.pool(this.vertx, writerConnectOptions, writerPoolOptions);
-    this.readerPool = MySQLPool.pool(this.vertx, readerConnectOptions, readerPoolOptions);
+  // A shared pool spreads its connections over the event loops instead of pinning them all to the
+  // event loop of the verticle that created it
+  private PoolOptions getPoolOptions(String maxSizeKey, String name) {
+    int eventLoopSize = Integer.parseInt(this.config.getString(MYSQL_POOL_EVENT_LOOP_SIZE));
+    return new PoolOptions()
+        .setName(name)
+        .setShared(true)
+        .setEventLoopSize(eventLoopSize > 0 ? eventLoopSize : CpuCoreSensor.availableProcessors())
+        .setMaxSize(Integer.parseInt(this.config.getString(maxSizeKey)))
+        .setMaxWaitQueueSize(Integer.parseInt(this.config.getString(MYSQL_MAX_WAIT_QUEUE_SIZE)))
+        .setConnectionTimeout(
+            Integer.parseInt(this.config.getString(MYSQL_POOL_CONNECTION_TIMEOUT)))
+        .setConnectionTimeoutUnit(TimeUnit.MILLISECONDS)
+        .setIdleTimeout(Integer.parseInt(this.config.getString(MYSQL_POOL_IDLE_TIMEOUT)))
+        .setIdleTimeoutUnit(TimeUnit.MILLISECONDS);
   }
 
   public MySQLPool getWriterPool() {
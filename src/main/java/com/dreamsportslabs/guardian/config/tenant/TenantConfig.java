@@ -23,4 +23,5 @@ public class TenantConfig {
   private Map<String, OidcProviderConfig> oidcProviderConfig;
   private AdminConfig adminConfig;
   private GuestConfig guestConfig;
+  private String version;
 }
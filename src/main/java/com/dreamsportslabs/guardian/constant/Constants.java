@@ -44,7 +44,6 @@ public final class Constants {
   public static final String EXPIRY_OPTION_REDIS = "EX";
   public static final String EXPIRE_AT_REDIS = "EXAT";
   public static final String STATIC_OTP_NUMBER = "9";
-  public static final String KEEP_TTL = "KEEPTTL";
 
   // Application config
   public static final String PORT = "port";
@@ -55,9 +54,24 @@ public final class Constants {
   public static final String MYSQL_PASSWORD = "mysql_password";
   public static final String MYSQL_WRITER_MAX_POOL_SIZE = "mysql_writer_max_pool_size";
   public static final String MYSQL_READER_MAX_POOL_SIZE = "mysql_reader_max_pool_size";
+  public static final String MYSQL_POOL_EVENT_LOOP_SIZE = "mysql_pool_event_loop_size";
+  public static final String MYSQL_MAX_WAIT_QUEUE_SIZE = "mysql_max_wait_queue_size";
+  public static final String MYSQL_POOL_CONNECTION_TIMEOUT = "mysql_pool_connection_timeout";
+  public static final String MYSQL_POOL_IDLE_TIMEOUT = "mysql_pool_idle_timeout";
+  public static final String MYSQL_PIPELINING_LIMIT = "mysql_pipelining_limit";
+  public static final String MYSQL_CACHE_PREPARED_STATEMENTS = "mysql_cache_prepared_statements";
+  public static final String MYSQL_PREPARED_STATEMENT_CACHE_MAX_SIZE =
+      "mysql_prepared_statement_cache_max_size";
   public static final String REDIS_HOST = "redis_host";
   public static final String REDIS_PORT = "redis_port";
   public static final String REDIS_TYPE = "redis_type";
+  public static final String REDIS_ENDPOINTS = "redis_endpoints";
+  public static final String REDIS_MASTER_NAME = "redis_master_name";
+  public static final String REDIS_USE_REPLICAS = "redis_use_replicas";
+  public static final String REDIS_MAX_POOL_SIZE = "redis_max_pool_size";
+  public static final String REDIS_MAX_POOL_WAITING = "redis_max_pool_waiting";
+  public static final String REDIS_MAX_WAITING_HANDLERS = "redis_max_waiting_handlers";
+  public static final String REDIS_READER = "redis_reader";
   public static final String HTTP_CONNECT_TIMEOUT = "http_connect_timeout";
   public static final String HTTP_READ_TIMEOUT = "http_read_timeout";
   public static final String HTTP_WRITE_TIMEOUT = "http_write_timeout";
@@ -69,6 +83,12 @@ public final class Constants {
       "http_client_connection_pool_max_size";
   public static final String APPLICATION_SHUTDOWN_GRACE_PERIOD =
       "application_shutdown_grace_period";
+  public static final String TOKEN_SIGNING_POOL_SIZE = "token_signing_pool_size";
+  public static final String TOKEN_SIGNING_MAX_QUEUE_SIZE = "token_signing_max_queue_size";
+  public static final String VERIFIED_TOKEN_CACHE_MAX_SIZE = "verified_token_cache_max_size";
+  public static final String IDP_JWKS_REFRESH_INTERVAL = "idp_jwks_refresh_interval";
+  public static final String CLIENT_CACHE_MAX_SIZE = "client_cache_max_size";
+  public static final String CLIENT_CACHE_EXPIRY = "client_cache_expiry";
 
   // JWT CLAIMS
   public static final String JWT_CLAIMS_AUD = "aud";
@@ -143,11 +163,25 @@ public final class Constants {
   public static final Integer REVOCATIONS_FLOOR_FACTOR_2 = 60;
   public static final String REVOCATIONS_KEY_SEPARATOR = "_";
   public static final String REDIS_OPTION_BYSCORE = "BYSCORE";
-  public static final Integer REVOCATIONS_KEY_APPLICATION_ID_INDEX = 0;
-  public static final Integer REVOCATIONS_KEY_SCORE_START_INDEX = 1;
-  public static final Integer REVOCATIONS_KEY_SCORE_END_INDEX = 2;
   public static final String REVOCATIONS_REDIS_KEY_PREFIX = "revocations";
+  public static final String REVOCATIONS_STREAM_KEY_PREFIX = "revocation_stream";
+  public static final String REVOCATIONS_STREAM_FIELD = "rft_id";
+  public static final String REVOCATIONS_COMPACTION_LOCK_KEY_PREFIX = "revocation_compaction_lock";
+  public static final String REVOCATIONS_COMPACTION_INTERVAL = "revocations_compaction_interval";
+  public static final String REVOCATIONS_CACHE_MAX_WEIGHT = "revocations_cache_max_weight";
+  public static final String REVOCATIONS_CACHE_REFRESH_INTERVAL =
+      "revocations_cache_refresh_interval";
+  public static final String REVOCATIONS_CACHE_RELOAD_INTERVAL =
+      "revocations_cache_reload_interval";
+  public static final String REVOCATIONS_CACHE_EXPIRY = "revocations_cache_expiry";
+  public static final String REVOCATIONS_CACHE_MAX_SKEW = "revocations_cache_max_skew";
+  public static final Integer REVOCATIONS_DELTA_DEFAULT_LIMIT = 1000;
+  public static final Integer REVOCATIONS_DELTA_MAX_LIMIT = 10000;
+  public static final Integer REVOCATIONS_DELTA_MAX_WAIT = 30;
+  public static final String REVOCATIONS_BLOOM_FALSE_POSITIVE_RATE =
+      "revocations_bloom_false_positive_rate";
   public static final Integer MILLIS_TO_SECONDS = 1000;
+  public static final String CACHE_INVALIDATION_CHANNEL = "guardian_cache_invalidation";
 
   public static final String ACCESS_TOKEN_COOKIE_NAME = "AT";
   public static final String REFRESH_TOKEN_COOKIE_NAME = "RT";
@@ -179,6 +213,16 @@ public final class Constants {
   public static final String FORMAT_PEM = "PEM";
   public static final String FORMAT_JWKS = "JWKS";
   public static final ImmutableList<Integer> VALID_KEY_SIZES = ImmutableList.of(2048, 3072, 4096);
+  public static final String KEY_TYPE_RSA = "RSA";
+  public static final String KEY_TYPE_EC = "EC";
+  public static final String KEY_TYPE_OKP = "OKP";
+  public static final String CURVE_P256 = "P-256";
+  public static final String CURVE_P384 = "P-384";
+  public static final String CURVE_P521 = "P-521";
+  public static final String CURVE_ED25519 = "Ed25519";
+  public static final ImmutableList<String> VALID_EC_CURVES =
+      ImmutableList.of(CURVE_P256, CURVE_P384, CURVE_P521);
+  public static final String ALGORITHM_ED25519 = "Ed25519";
 
   // OIDC Token Constants
   public static final String OIDC_REFRESH_TOKEN = "refresh_token";
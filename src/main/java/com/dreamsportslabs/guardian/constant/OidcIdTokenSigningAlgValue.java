@@ -5,7 +5,13 @@ import lombok.Getter;
 
 @Getter
 public enum OidcIdTokenSigningAlgValue {
-  RS256("RS256");
+  RS256("RS256"),
+  RS384("RS384"),
+  RS512("RS512"),
+  ES256("ES256"),
+  ES384("ES384"),
+  ES512("ES512"),
+  Ed25519("Ed25519");
 
   private final String value;
 
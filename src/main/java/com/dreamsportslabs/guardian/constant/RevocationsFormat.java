@@ -0,0 +1,27 @@
+package com.dreamsportslabs.guardian.constant;
+
+import lombok.Getter;
+
+@Getter
+public enum RevocationsFormat {
+  // The code is written in the snapshot header, do not change existing codes
+  SET("set", (byte) 0),
+  BLOOM("bloom", (byte) 1);
+
+  private final String value;
+  private final byte code;
+
+  RevocationsFormat(String value, byte code) {
+    this.value = value;
+    this.code = code;
+  }
+
+  public static RevocationsFormat fromValue(String value) {
+    for (RevocationsFormat format : values()) {
+      if (format.value.equals(value)) {
+        return format;
+      }
+    }
+    return null;
+  }
+}
@@ -1,11 +1,11 @@
 package com.dreamsportslabs.guardian.dao;
 
 import static com.dreamsportslabs.guardian.constant.Constants.CACHE_KEY_AUTH_SESSION;
-import static com.dreamsportslabs.guardian.constant.Constants.EXPIRY_OPTION_REDIS;
-import static com.dreamsportslabs.guardian.constant.Constants.KEEP_TTL;
 import static com.dreamsportslabs.guardian.exception.OidcErrorEnum.SERVER_ERROR;
 import static com.dreamsportslabs.guardian.exception.OidcErrorEnum.UNAUTHORIZED;
 
+import com.dreamsportslabs.guardian.client.RedisBatchClient;
+import com.dreamsportslabs.guardian.client.RedisScript;
 import com.dreamsportslabs.guardian.dao.model.AuthorizeSessionModel;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.inject.Inject;
@@ -13,8 +13,8 @@ import io.reactivex.rxjava3.core.Completable;
 import io.reactivex.rxjava3.core.Maybe;
 import io.reactivex.rxjava3.core.Single;
 import io.vertx.rxjava3.redis.client.Command;
-import io.vertx.rxjava3.redis.client.Redis;
 import io.vertx.rxjava3.redis.client.Request;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
@@ -22,7 +22,18 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @RequiredArgsConstructor(onConstructor = @__({@Inject}))
 public class AuthorizeSessionDao {
-  private final Redis redisClient;
+  private static final String COMMAND_GROUP = "authorize_session";
+  // Keeps the remaining TTL of an existing session and sets the given TTL on a new one
+  private static final RedisScript SAVE_SESSION_SCRIPT =
+      RedisScript.of(
+          """
+          if redis.call('EXISTS', KEYS[1]) == 1 then
+            return redis.call('SET', KEYS[1], ARGV[1], 'KEEPTTL')
+          end
+          return redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[2])
+          """);
+
+  private final RedisBatchClient redisBatchClient;
   private final ObjectMapper objectMapper;
 
   @SneakyThrows
@@ -31,27 +42,16 @@ public class AuthorizeSessionDao {
     String cacheKey = getCacheKey(challenge, tenantId);
     String value = objectMapper.writeValueAsString(model);
 
-    return this.redisClient
-        .rxSend(Request.cmd(Command.TTL).arg(cacheKey))
-        .filter(response -> response.toInteger() == -2)
-        .flatMap(
-            response ->
-                redisClient.rxSend(
-                    Request.cmd(Command.SET)
-                        .arg(cacheKey)
-                        .arg(value)
-                        .arg(EXPIRY_OPTION_REDIS)
-                        .arg(ttl)))
-        .switchIfEmpty(
-            redisClient.rxSend(Request.cmd(Command.SET).arg(cacheKey).arg(value).arg(KEEP_TTL)))
+    return redisBatchClient
+        .eval(COMMAND_GROUP, SAVE_SESSION_SCRIPT, List.of(cacheKey), List.of(value, ttl.toString()))
         .ignoreElement();
   }
 
   public Single<AuthorizeSessionModel> getAuthorizeSession(String challenge, String tenantId) {
     String cacheKey = getCacheKey(challenge, tenantId);
 
-    return redisClient
-        .rxSend(Request.cmd(Command.GET).arg(cacheKey))
+    return redisBatchClient
+        .send(COMMAND_GROUP, Request.cmd(Command.GET).arg(cacheKey))
         .onErrorResumeNext(
             err -> Maybe.error(SERVER_ERROR.getJsonCustomException(err.getMessage())))
         .switchIfEmpty(Maybe.error(UNAUTHORIZED.getJsonCustomException("Invalid challenge")))
@@ -62,7 +62,9 @@ public class AuthorizeSessionDao {
   public Completable deleteAuthorizeSession(String challenge, String tenantId) {
     String cacheKey = getCacheKey(challenge, tenantId);
 
-    return redisClient.rxSend(Request.cmd(Command.DEL).arg(cacheKey)).ignoreElement();
+    return redisBatchClient
+        .send(COMMAND_GROUP, Request.cmd(Command.DEL).arg(cacheKey))
+        .ignoreElement();
   }
 
   private String getCacheKey(String challenge, String tenantId) {
@@ -3,6 +3,7 @@ package com.dreamsportslabs.guardian.dao;
 import static com.dreamsportslabs.guardian.constant.Constants.CACHE_KEY_CODE;
 import static com.dreamsportslabs.guardian.constant.Constants.EXPIRY_OPTION_REDIS;
 
+import com.dreamsportslabs.guardian.client.RedisBatchClient;
 import com.dreamsportslabs.guardian.dao.model.CodeModel;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.inject.Inject;
@@ -18,7 +19,10 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @RequiredArgsConstructor(onConstructor = @__({@Inject}))
 public class CodeDao {
+  private static final String COMMAND_GROUP = "code";
+
   private final Redis redisClient;
+  private final RedisBatchClient redisBatchClient;
   private final ObjectMapper objectMapper;
 
   @SneakyThrows
@@ -33,18 +37,13 @@ public class CodeDao {
         .ignoreElement();
   }
 
-  public Maybe<CodeModel> getCode(String code, String tenantId) {
-    return redisClient
-        .rxSend(Request.cmd(Command.GET).arg(getCacheKey(code, tenantId)))
+  /** Returns the code and deletes it in the same step, so a code can be exchanged only once. */
+  public Maybe<CodeModel> consumeCode(String code, String tenantId) {
+    return redisBatchClient
+        .getDel(COMMAND_GROUP, getCacheKey(code, tenantId))
         .map(response -> objectMapper.readValue(response.toString(), CodeModel.class));
   }
 
-  public Completable deleteCode(String code, String tenantId) {
-    return redisClient
-        .rxSend(Request.cmd(Command.DEL).arg(getCacheKey(code, tenantId)))
-        .ignoreElement();
-  }
-
   private String getCacheKey(String code, String tenantId) {
     return CACHE_KEY_CODE + "_" + tenantId + "_" + code;
   }
@@ -1,18 +1,7 @@
 package com.dreamsportslabs.guardian.dao;
 
-import static com.dreamsportslabs.guardian.dao.query.ConfigQuery.ADMIN_CONFIG;
-import static com.dreamsportslabs.guardian.dao.query.ConfigQuery.AUTH_CODE_CONFIG;
-import static com.dreamsportslabs.guardian.dao.query.ConfigQuery.CONTACT_VERIFY_CONFIG;
-import static com.dreamsportslabs.guardian.dao.query.ConfigQuery.EMAIL_CONFIG;
-import static com.dreamsportslabs.guardian.dao.query.ConfigQuery.FB_AUTH_CONFIG;
-import static com.dreamsportslabs.guardian.dao.query.ConfigQuery.GOOGLE_AUTH_CONFIG;
-import static com.dreamsportslabs.guardian.dao.query.ConfigQuery.GUEST_CONFIG;
-import static com.dreamsportslabs.guardian.dao.query.ConfigQuery.OIDC_CONFIG;
-import static com.dreamsportslabs.guardian.dao.query.ConfigQuery.OIDC_PROVIDER_CONFIG;
-import static com.dreamsportslabs.guardian.dao.query.ConfigQuery.OTP_CONFIG;
-import static com.dreamsportslabs.guardian.dao.query.ConfigQuery.SMS_CONFIG;
-import static com.dreamsportslabs.guardian.dao.query.ConfigQuery.TOKEN_CONFIG;
-import static com.dreamsportslabs.guardian.dao.query.ConfigQuery.USER_CONFIG;
+import static com.dreamsportslabs.guardian.dao.query.ConfigQuery.TENANT_CONFIG;
+import static com.dreamsportslabs.guardian.dao.query.ConfigQuery.TENANT_CONFIG_VERSION;
 import static com.dreamsportslabs.guardian.exception.ErrorEnum.INVALID_REQUEST;
 
 import com.dreamsportslabs.guardian.client.MysqlClient;
@@ -32,10 +21,12 @@ import com.dreamsportslabs.guardian.config.tenant.TokenConfig;
 import com.dreamsportslabs.guardian.config.tenant.UserConfig;
 import com.dreamsportslabs.guardian.utils.JsonUtils;
 import com.google.inject.Inject;
-import io.reactivex.rxjava3.core.Completable;
 import io.reactivex.rxjava3.core.Single;
+import io.vertx.rxjava3.sqlclient.Row;
 import io.vertx.rxjava3.sqlclient.Tuple;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -46,130 +37,62 @@ public class ConfigDao {
   private final MysqlClient mysqlClient;
 
   public Single<TenantConfig> getTenantConfig(String tenantId) {
-    TenantConfig.TenantConfigBuilder builder = TenantConfig.builder().tenantId(tenantId);
-    List<Completable> configSources =
-        List.of(
-            appendAuthCodeConfig(tenantId, builder),
-            appendEmailConfig(tenantId, builder),
-            appendUserConfig(tenantId, builder),
-            appendTokenConfig(tenantId, builder),
-            appendFbConfig(tenantId, builder),
-            appendGoogleConfig(tenantId, builder),
-            appendSmsConfig(tenantId, builder),
-            appendOtpConfig(tenantId, builder),
-            appendContactVerifyConfig(tenantId, builder),
-            appendOidcProviderConfig(tenantId, builder),
-            appendAdminConfig(tenantId, builder),
-            appendContactVerifyConfig(tenantId, builder),
-            appendOidcConfig(tenantId, builder),
-            appendGuestConfig(tenantId, builder));
-    return Completable.merge(configSources)
-        .andThen(Single.defer(() -> Single.just(builder.build())));
-  }
-
-  private Completable appendAuthCodeConfig(
-      String tenantId, TenantConfig.TenantConfigBuilder builder) {
-    return getConfigFromDb(tenantId, AuthCodeConfig.class, AUTH_CODE_CONFIG)
-        .map(builder::authCodeConfig)
-        .ignoreElement();
-  }
-
-  private Completable appendEmailConfig(String tenantId, TenantConfig.TenantConfigBuilder builder) {
-    return getConfigFromDb(tenantId, EmailConfig.class, EMAIL_CONFIG)
-        .map(builder::emailConfig)
-        .ignoreElement();
-  }
-
-  private Completable appendOtpConfig(String tenantId, TenantConfig.TenantConfigBuilder builder) {
-    return getConfigFromDb(tenantId, OtpConfig.class, OTP_CONFIG)
-        .map(builder::otpConfig)
-        .ignoreElement();
-  }
-
-  private Completable appendContactVerifyConfig(
-      String tenantId, TenantConfig.TenantConfigBuilder builder) {
-    return getConfigFromDb(tenantId, ContactVerifyConfig.class, CONTACT_VERIFY_CONFIG)
-        .map(builder::contactVerifyConfig)
-        .ignoreElement();
-  }
-
-  private Completable appendUserConfig(String tenantId, TenantConfig.TenantConfigBuilder builder) {
-    return getConfigFromDb(tenantId, UserConfig.class, USER_CONFIG)
-        .map(builder::userConfig)
-        .ignoreElement();
-  }
-
-  private Completable appendTokenConfig(String tenantId, TenantConfig.TenantConfigBuilder builder) {
-    return getConfigFromDb(tenantId, TokenConfig.class, TOKEN_CONFIG)
-        .map(builder::tokenConfig)
-        .ignoreElement();
-  }
-
-  private Completable appendFbConfig(String tenantId, TenantConfig.TenantConfigBuilder builder) {
-    return getConfigFromDb(tenantId, FbConfig.class, FB_AUTH_CONFIG)
-        .map(builder::fbConfig)
-        .ignoreElement();
-  }
-
-  private Completable appendGoogleConfig(
-      String tenantId, TenantConfig.TenantConfigBuilder builder) {
-    return getConfigFromDb(tenantId, GoogleConfig.class, GOOGLE_AUTH_CONFIG)
-        .map(builder::googleConfig)
-        .ignoreElement();
-  }
-
-  private Completable appendGuestConfig(String tenantId, TenantConfig.TenantConfigBuilder builder) {
-    return getConfigFromDb(tenantId, GuestConfig.class, GUEST_CONFIG)
-        .map(builder::guestConfig)
-        .ignoreElement();
-  }
-
-  private Completable appendSmsConfig(String tenantId, TenantConfig.TenantConfigBuilder builder) {
-    return getConfigFromDb(tenantId, SmsConfig.class, SMS_CONFIG)
-        .map(builder::smsConfig)
-        .ignoreElement();
-  }
-
-  private Completable appendOidcConfig(String tenantId, TenantConfig.TenantConfigBuilder builder) {
-    return getConfigFromDb(tenantId, OidcConfig.class, OIDC_CONFIG)
-        .map(builder::oidcConfig)
-        .ignoreElement();
-  }
-
-  private Completable appendAdminConfig(String tenantId, TenantConfig.TenantConfigBuilder builder) {
-    return getConfigFromDb(tenantId, AdminConfig.class, ADMIN_CONFIG)
-        .map(builder::adminConfig)
-        .ignoreElement();
-  }
-
-  private Completable appendOidcProviderConfig(
-      String tenantId, TenantConfig.TenantConfigBuilder builder) {
-    return getMultipleConfigFromDb(tenantId, OidcProviderConfig.class, OIDC_PROVIDER_CONFIG)
-        .map(
-            configs ->
-                configs.stream()
-                    .collect(
-                        Collectors.toMap(OidcProviderConfig::getProviderName, config -> config)))
-        .map(builder::oidcProviderConfig)
-        .ignoreElement();
-  }
-
-  private <T> Single<List<T>> getMultipleConfigFromDb(
-      String tenantId, Class<T> configType, String query) {
     return mysqlClient
         .getReaderPool()
-        .preparedQuery(query)
+        .preparedQuery(TENANT_CONFIG)
         .execute(Tuple.of(tenantId))
-        .map(rows -> JsonUtils.rowSetToList(rows, configType));
+        .map(rows -> buildTenantConfig(tenantId, rows.iterator().next()));
   }
 
-  private <T> Single<T> getConfigFromDb(String tenantId, Class<T> configType, String query) {
+  /** Returns a stamp that changes whenever any config row of the tenant is updated or deleted. */
+  public Single<String> getTenantConfigVersion(String tenantId) {
     return mysqlClient
         .getReaderPool()
-        .preparedQuery(query)
+        .preparedQuery(TENANT_CONFIG_VERSION)
         .execute(Tuple.of(tenantId))
-        .filter(rowSet -> rowSet.size() > 0)
-        .switchIfEmpty(Single.error(INVALID_REQUEST.getCustomException("No config found")))
-        .map(rows -> JsonUtils.rowSetToList(rows, configType).get(0));
+        .map(rows -> getVersion(rows.iterator().next()));
+  }
+
+  private String getVersion(Row row) {
+    return Objects.toString(row.getValue("version"), "");
+  }
+
+  private TenantConfig buildTenantConfig(String tenantId, Row row) {
+    return TenantConfig.builder()
+        .tenantId(tenantId)
+        .authCodeConfig(getConfig(row, "auth_code_config", AuthCodeConfig.class))
+        .emailConfig(getConfig(row, "email_config", EmailConfig.class))
+        .userConfig(getConfig(row, "user_config", UserConfig.class))
+        .tokenConfig(getConfig(row, "token_config", TokenConfig.class))
+        .fbConfig(getConfig(row, "fb_config", FbConfig.class))
+        .googleConfig(getConfig(row, "google_config", GoogleConfig.class))
+        .smsConfig(getConfig(row, "sms_config", SmsConfig.class))
+        .otpConfig(getConfig(row, "otp_config", OtpConfig.class))
+        .contactVerifyConfig(getConfig(row, "contact_verify_config", ContactVerifyConfig.class))
+        .oidcProviderConfig(getOidcProviderConfig(row))
+        .adminConfig(getConfig(row, "admin_config", AdminConfig.class))
+        .oidcConfig(getConfig(row, "oidc_config", OidcConfig.class))
+        .guestConfig(getConfig(row, "guest_config", GuestConfig.class))
+        .version(getVersion(row))
+        .build();
+  }
+
+  private Map<String, OidcProviderConfig> getOidcProviderConfig(Row row) {
+    Object value = row.getValue("oidc_provider_config");
+    if (value == null) {
+      return Map.of();
+    }
+    List<OidcProviderConfig> configs =
+        JsonUtils.readSnakeCaseList(value.toString(), OidcProviderConfig.class);
+    return configs.stream()
+        .collect(Collectors.toMap(OidcProviderConfig::getProviderName, config -> config));
+  }
+
+  private <T> T getConfig(Row row, String column, Class<T> configType) {
+    Object value = row.getValue(column);
+    if (value == null) {
+      throw INVALID_REQUEST.getCustomException("No config found");
+    }
+    return JsonUtils.readSnakeCaseValue(value.toString(), configType);
   }
 }
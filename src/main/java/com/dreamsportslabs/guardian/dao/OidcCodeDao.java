@@ -2,6 +2,7 @@ package com.dreamsportslabs.guardian.dao;
 
 import static com.dreamsportslabs.guardian.constant.Constants.EXPIRY_OPTION_REDIS;
 
+import com.dreamsportslabs.guardian.client.RedisBatchClient;
 import com.dreamsportslabs.guardian.dao.model.OidcCodeModel;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.inject.Inject;
@@ -18,9 +19,11 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor(onConstructor = @__({@Inject}))
 public class OidcCodeDao {
   private final Redis redisClient;
+  private final RedisBatchClient redisBatchClient;
   private final ObjectMapper objectMapper;
 
   private static final String CACHE_KEY_OIDC_CODE = "AUTH_CODE";
+  private static final String COMMAND_GROUP = "oidc_code";
 
   @SneakyThrows
   public Completable saveOidcCode(String code, OidcCodeModel model, String tenantId, Integer ttl) {
@@ -34,26 +37,15 @@ public class OidcCodeDao {
         .ignoreElement();
   }
 
-  public Maybe<OidcCodeModel> getOidcCode(String code, String tenantId) {
+  /** Returns the code and deletes it in the same step, so a code can be redeemed only once. */
+  public Maybe<OidcCodeModel> consumeOidcCode(String code, String tenantId) {
     String cacheKey = getCacheKey(code, tenantId);
 
-    return redisClient
-        .rxSend(Request.cmd(Command.GET).arg(cacheKey))
-        .switchIfEmpty(Maybe.empty())
+    return redisBatchClient
+        .getDel(COMMAND_GROUP, cacheKey)
         .map(response -> objectMapper.readValue(response.toString(), OidcCodeModel.class));
   }
 
-  public Completable deleteOidcCode(String code, String tenantId) {
-    String cacheKey = getCacheKey(code, tenantId);
-
-    return redisClient
-        .rxSend(Request.cmd(Command.DEL).arg(cacheKey))
-        .doOnSuccess(
-            response ->
-                log.info("Deleted OidcCode with key: {} for tenant: {}", cacheKey, tenantId))
-        .ignoreElement();
-  }
-
   private String getCacheKey(String code, String tenantId) {
     return CACHE_KEY_OIDC_CODE + "_" + tenantId + "_" + code;
   }
@@ -2,76 +2,176 @@ package com.dreamsportslabs.guardian.dao;
 
 import static com.dreamsportslabs.guardian.constant.Constants.NEG_INF;
 import static com.dreamsportslabs.guardian.constant.Constants.REDIS_OPTION_BYSCORE;
-import static com.dreamsportslabs.guardian.constant.Constants.REVOCATIONS_KEY_APPLICATION_ID_INDEX;
-import static com.dreamsportslabs.guardian.constant.Constants.REVOCATIONS_KEY_SCORE_END_INDEX;
-import static com.dreamsportslabs.guardian.constant.Constants.REVOCATIONS_KEY_SCORE_START_INDEX;
+import static com.dreamsportslabs.guardian.constant.Constants.REVOCATIONS_COMPACTION_LOCK_KEY_PREFIX;
 import static com.dreamsportslabs.guardian.constant.Constants.REVOCATIONS_KEY_SEPARATOR;
 import static com.dreamsportslabs.guardian.constant.Constants.REVOCATIONS_REDIS_KEY_PREFIX;
+import static com.dreamsportslabs.guardian.constant.Constants.REVOCATIONS_STREAM_FIELD;
+import static com.dreamsportslabs.guardian.constant.Constants.REVOCATIONS_STREAM_KEY_PREFIX;
 import static com.dreamsportslabs.guardian.exception.ErrorEnum.INTERNAL_SERVER_ERROR;
 
+import com.dreamsportslabs.guardian.client.RedisBatchClient;
+import com.dreamsportslabs.guardian.dao.model.RevocationTimelineModel;
+import com.dreamsportslabs.guardian.dao.model.RevocationsDeltaModel;
 import com.google.inject.Inject;
+import io.reactivex.rxjava3.core.Completable;
 import io.reactivex.rxjava3.core.Single;
+import io.vertx.redis.client.ResponseType;
 import io.vertx.rxjava3.redis.client.Command;
-import io.vertx.rxjava3.redis.client.Redis;
 import io.vertx.rxjava3.redis.client.Request;
 import io.vertx.rxjava3.redis.client.Response;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @RequiredArgsConstructor(onConstructor = @__({@Inject}))
 public class RevocationDao {
-  final Redis redisClient;
+  private static final String COMMAND_GROUP = "revocations";
 
-  public Single<List<String>> getRevocations(String key) {
-    return redisClient
-        .rxSend(getRedisRequestToGetRevocations(key))
+  final RedisBatchClient redisBatchClient;
+
+  /**
+   * Reads the revocations made after the given timestamp, or all of them when it is null, up to but
+   * excluding the given timestamp, together with the time of each revocation. The cached timeline
+   * is marked as complete up to the upper bound, so this always reads from the master.
+   */
+  public Single<RevocationTimelineModel> getRevocationTimeline(
+      String tenantId, Long afterTimeStamp, long beforeTimeStamp) {
+    Request request =
+        Request.cmd(Command.ZRANGE)
+            .arg(getRevocationsCacheKey(tenantId))
+            .arg(afterTimeStamp == null ? NEG_INF : "(" + afterTimeStamp)
+            .arg("(" + beforeTimeStamp)
+            .arg(REDIS_OPTION_BYSCORE)
+            .arg("WITHSCORES");
+    return redisBatchClient
+        .send(COMMAND_GROUP, request)
+        .switchIfEmpty(Single.error(INTERNAL_SERVER_ERROR.getException()))
+        .map(this::mapRedisResponseToTimeline)
+        .onErrorResumeNext(err -> Single.error(INTERNAL_SERVER_ERROR.getException(err)));
+  }
+
+  /**
+   * Reads up to limit entries of the revocation stream after the given entry id. Stream ids are
+   * ordered and unique, so the id of the last entry is the cursor for the next read.
+   */
+  public Single<RevocationsDeltaModel> getRevocationsSince(
+      String tenantId, String afterEntryId, int limit) {
+    Request request =
+        Request.cmd(Command.XRANGE)
+            .arg(getRevocationsStreamKey(tenantId))
+            .arg("(" + afterEntryId)
+            .arg("+")
+            .arg("COUNT")
+            .arg(limit);
+    return redisBatchClient
+        .read(COMMAND_GROUP, request)
         .switchIfEmpty(Single.error(INTERNAL_SERVER_ERROR.getException()))
-        .map(this::mapRedisResponseToList)
+        .map(response -> mapRedisResponseToDelta(response, afterEntryId))
         .onErrorResumeNext(err -> Single.error(INTERNAL_SERVER_ERROR.getException(err)));
   }
 
-  public void addExpiredRefreshTokensInSortedSet(
+  /**
+   * Adds the revoked refresh tokens to the time indexed set and to the revocation stream. The two
+   * keys can live on different cluster slots, so each is written in its own pipeline. Old entries
+   * are trimmed separately by the revocation compactor.
+   */
+  public Completable addRevocations(
       long currentTimeStamp, List<String> refreshTokens, String tenantId) {
-    Request req = Request.cmd(Command.ZADD).arg(getRevocationsCacheKey(tenantId));
+    if (refreshTokens.isEmpty()) {
+      return Completable.complete();
+    }
 
+    String streamKey = getRevocationsStreamKey(tenantId);
+    Request add = Request.cmd(Command.ZADD).arg(getRevocationsCacheKey(tenantId));
+    List<Request> appends = new ArrayList<>();
     for (String sessionId : refreshTokens) {
-      req.arg(currentTimeStamp);
-      req.arg(sessionId);
+      add.arg(currentTimeStamp);
+      add.arg(sessionId);
+      appends.add(
+          Request.cmd(Command.XADD)
+              .arg(streamKey)
+              .arg("*")
+              .arg(REVOCATIONS_STREAM_FIELD)
+              .arg(sessionId));
     }
-    redisClient.rxSend(req).subscribe();
+    return Completable.mergeArray(
+        redisBatchClient.send(COMMAND_GROUP, add).ignoreElement(),
+        redisBatchClient.batch(COMMAND_GROUP, appends).ignoreElement());
   }
 
-  public void removeExpiredRefreshTokensFromSortedSet(
-      long currentTimeStamp, long accessTokenExpiry, String tenantId) {
-    long expiryTimeStamp = currentTimeStamp - accessTokenExpiry;
-    redisClient
-        .rxSend(
-            Request.cmd(Command.ZREMRANGEBYSCORE)
-                .arg(getRevocationsCacheKey(tenantId))
-                .arg(NEG_INF)
-                .arg(expiryTimeStamp))
-        .subscribe();
+  /** Removes revocations made before the timestamp from both the set and the stream. */
+  public Completable trimRevocations(String tenantId, long beforeTimeStamp) {
+    Request trimSet =
+        Request.cmd(Command.ZREMRANGEBYSCORE)
+            .arg(getRevocationsCacheKey(tenantId))
+            .arg(NEG_INF)
+            .arg(beforeTimeStamp);
+    Request trimStream =
+        Request.cmd(Command.XTRIM)
+            .arg(getRevocationsStreamKey(tenantId))
+            .arg("MINID")
+            .arg("~")
+            .arg(TimeUnit.SECONDS.toMillis(beforeTimeStamp));
+    return Completable.mergeArray(
+        redisBatchClient.send(COMMAND_GROUP, trimSet).ignoreElement(),
+        redisBatchClient.send(COMMAND_GROUP, trimStream).ignoreElement());
   }
 
-  private List<String> mapRedisResponseToList(Response resp) {
+  /**
+   * Takes the compaction lock of the tenant for the given time without ever releasing it, so that
+   * at most one node compacts a tenant in each interval.
+   */
+  public Single<Boolean> acquireCompactionLock(String tenantId, String owner, long ttlMillis) {
+    return redisBatchClient
+        .send(
+            COMMAND_GROUP,
+            Request.cmd(Command.SET)
+                .arg(REVOCATIONS_COMPACTION_LOCK_KEY_PREFIX + REVOCATIONS_KEY_SEPARATOR + tenantId)
+                .arg(owner)
+                .arg("NX")
+                .arg("PX")
+                .arg(ttlMillis))
+        .map(response -> true)
+        .defaultIfEmpty(false);
+  }
+
+  // Each stream entry is a pair of its id and its field value list
+  private RevocationsDeltaModel mapRedisResponseToDelta(Response resp, String afterEntryId) {
     List<String> revocations = new ArrayList<>();
-    resp.forEach(item -> revocations.add(item.toString()));
-    return revocations;
+    String lastEntryId = afterEntryId;
+    for (Response entry : resp) {
+      lastEntryId = entry.get(0).toString();
+      revocations.add(entry.get(1).get(1).toString());
+    }
+    return RevocationsDeltaModel.builder()
+        .revocations(revocations)
+        .lastEntryId(lastEntryId)
+        .build();
+  }
+
+  // RESP3 replies with a pair per member while RESP2 alternates members and scores in one list
+  private RevocationTimelineModel mapRedisResponseToTimeline(Response resp) {
+    List<String> rftIds = new ArrayList<>();
+    List<Long> revokedAt = new ArrayList<>();
+    if (resp.size() > 0 && resp.get(0).type() == ResponseType.MULTI) {
+      for (Response pair : resp) {
+        rftIds.add(pair.get(0).toString());
+        revokedAt.add(pair.get(1).toDouble().longValue());
+      }
+    } else {
+      for (int i = 0; i + 1 < resp.size(); i += 2) {
+        rftIds.add(resp.get(i).toString());
+        revokedAt.add(resp.get(i + 1).toDouble().longValue());
+      }
+    }
+    return RevocationTimelineModel.builder().rftIds(rftIds).revokedAt(revokedAt).build();
   }
 
-  private Request getRedisRequestToGetRevocations(String key) {
-    String[] revocationKeyParts = key.split(REVOCATIONS_KEY_SEPARATOR);
-    String tenantId = revocationKeyParts[REVOCATIONS_KEY_APPLICATION_ID_INDEX];
-    String fromEpoch = revocationKeyParts[REVOCATIONS_KEY_SCORE_START_INDEX];
-    String toEpoch = revocationKeyParts[REVOCATIONS_KEY_SCORE_END_INDEX];
-    return Request.cmd(Command.ZRANGE)
-        .arg(getRevocationsCacheKey(tenantId))
-        .arg(fromEpoch)
-        .arg(toEpoch)
-        .arg(REDIS_OPTION_BYSCORE);
+  private String getRevocationsStreamKey(String tenantId) {
+    return REVOCATIONS_STREAM_KEY_PREFIX + REVOCATIONS_KEY_SEPARATOR + tenantId;
   }
 
   private String getRevocationsCacheKey(String applicationId) {
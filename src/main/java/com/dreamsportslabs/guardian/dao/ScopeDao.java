@@ -1,7 +1,7 @@
 package com.dreamsportslabs.guardian.dao;
 
 import static com.dreamsportslabs.guardian.dao.query.ScopeQuery.DELETE_SCOPE;
-import static com.dreamsportslabs.guardian.dao.query.ScopeQuery.GET_OIDC_SCOPES;
+import static com.dreamsportslabs.guardian.dao.query.ScopeQuery.GET_ALL_SCOPES;
 import static com.dreamsportslabs.guardian.dao.query.ScopeQuery.GET_SCOPES_BY_NAMES_TEMPLATE;
 import static com.dreamsportslabs.guardian.dao.query.ScopeQuery.GET_SCOPES_PAGINATED;
 import static com.dreamsportslabs.guardian.dao.query.ScopeQuery.SAVE_SCOPE;
@@ -18,7 +18,6 @@ import io.vertx.core.json.JsonArray;
 import io.vertx.mysqlclient.MySQLException;
 import io.vertx.rxjava3.sqlclient.Tuple;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,19 +29,10 @@ public class ScopeDao {
   private final MysqlClient mysqlClient;
 
   public Single<List<ScopeModel>> getScopes(String tenantId, List<String> names) {
-    String placeholders = String.join(",", Collections.nCopies(names.size(), "?"));
-    String query = String.format(GET_SCOPES_BY_NAMES_TEMPLATE, placeholders);
-
-    Tuple tuple = Tuple.tuple();
-    tuple.addString(tenantId);
-    for (String name : names) {
-      tuple.addString(name);
-    }
-
     return mysqlClient
         .getReaderPool()
-        .preparedQuery(query)
-        .execute(tuple)
+        .preparedQuery(SqlUtils.getInListQuery(GET_SCOPES_BY_NAMES_TEMPLATE, names.size()))
+        .execute(SqlUtils.addInListValues(Tuple.of(tenantId), names))
         .map(rowSet -> JsonUtils.rowSetToList(rowSet, ScopeModel.class));
   }
 
@@ -105,10 +95,10 @@ public class ScopeDao {
         .map(result -> result.rowCount() > 0);
   }
 
-  public Single<List<ScopeModel>> oidcScopes(String tenantId) {
+  public Single<List<ScopeModel>> getAllScopes(String tenantId) {
     return mysqlClient
         .getReaderPool()
-        .preparedQuery(GET_OIDC_SCOPES)
+        .preparedQuery(GET_ALL_SCOPES)
         .execute(Tuple.of(tenantId))
         .map(rowSet -> JsonUtils.rowSetToList(rowSet, ScopeModel.class));
   }
@@ -10,6 +10,7 @@ import com.dreamsportslabs.guardian.client.MysqlClient;
 import com.dreamsportslabs.guardian.constant.BlockFlow;
 import com.dreamsportslabs.guardian.dao.model.UserFlowBlockModel;
 import com.dreamsportslabs.guardian.utils.JsonUtils;
+import com.dreamsportslabs.guardian.utils.SqlUtils;
 import com.google.inject.Inject;
 import io.reactivex.rxjava3.core.Completable;
 import io.reactivex.rxjava3.core.Single;
@@ -75,18 +76,12 @@ public class UserFlowBlockDao {
   public Single<List<UserFlowBlockModel>> checkFlowBlockedWithReasonBatch(
       String tenantId, List<String> userIdentifiers, BlockFlow flowName) {
 
-    String placeholders = String.join(",", userIdentifiers.stream().map(c -> "?").toList());
-    String query = String.format(GET_FLOW_BLOCK_REASON_BATCH, placeholders);
-
-    Tuple params = Tuple.tuple().addValue(tenantId).addValue(flowName.getFlowName());
-    for (String user : userIdentifiers) {
-      params.addValue(user);
-    }
+    Tuple params = Tuple.of(tenantId, flowName.getFlowName());
 
     return mysqlClient
         .getReaderPool()
-        .preparedQuery(query)
-        .rxExecute(params)
+        .preparedQuery(SqlUtils.getInListQuery(GET_FLOW_BLOCK_REASON_BATCH, userIdentifiers.size()))
+        .rxExecute(SqlUtils.addInListValues(params, userIdentifiers))
         .map(rowSet -> JsonUtils.rowSetToList(rowSet, UserFlowBlockModel.class));
   }
 }
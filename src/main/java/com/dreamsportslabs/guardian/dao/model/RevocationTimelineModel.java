@@ -0,0 +1,12 @@
+package com.dreamsportslabs.guardian.dao.model;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class RevocationTimelineModel {
+  private List<String> rftIds;
+  private List<Long> revokedAt;
+}
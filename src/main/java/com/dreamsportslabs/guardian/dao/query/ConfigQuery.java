@@ -1,169 +1,180 @@
 package com.dreamsportslabs.guardian.dao.query;
 
 public class ConfigQuery {
-  public static final String SMS_CONFIG =
-      """
-    SELECT is_ssl_enabled,
-           host,
-           port,
-           send_sms_path,
-           template_name,
-           template_params
-    FROM sms_config
-    WHERE tenant_id = ?
-    """;
-
-  public static final String AUTH_CODE_CONFIG =
-      """
-    SELECT tenant_id,
-           ttl,
-           length
-    FROM auth_code_config
-    WHERE tenant_id = ?
-    """;
-
-  public static final String USER_CONFIG =
-      """
-    SELECT is_ssl_enabled,
-           host,
-           port,
-           get_user_path,
-           create_user_path,
-           authenticate_user_path,
-           add_provider_path,
-           send_provider_details
-    FROM user_config
-    WHERE tenant_id = ?
-    """;
+  private static final String TENANT = "WITH t AS (SELECT ? AS tenant_id)\n";
 
-  public static final String EMAIL_CONFIG =
+  // Latest update across the config tables plus their row count, so that deletes are noticed too
+  private static final String CONFIG_VERSION =
       """
-    SELECT is_ssl_enabled,
-           host,
-           port,
-           send_email_path,
-           template_name,
-           template_params
-    FROM email_config
-    WHERE tenant_id = ?
-    """;
-
-  public static final String FB_AUTH_CONFIG =
-      """
-    SELECT app_id,
-           app_secret,
-           send_app_secret
-    FROM fb_config
-    WHERE tenant_id = ?
-    """;
+    SELECT CONCAT(MAX(updated_at), '_', COUNT(*))
+    FROM (
+           SELECT updated_at FROM auth_code_config WHERE tenant_id = (SELECT tenant_id FROM t)
+           UNION ALL
+           SELECT updated_at FROM email_config WHERE tenant_id = (SELECT tenant_id FROM t)
+           UNION ALL
+           SELECT updated_at FROM user_config WHERE tenant_id = (SELECT tenant_id FROM t)
+           UNION ALL
+           SELECT updated_at FROM token_config WHERE tenant_id = (SELECT tenant_id FROM t)
+           UNION ALL
+           SELECT updated_at FROM fb_config WHERE tenant_id = (SELECT tenant_id FROM t)
+           UNION ALL
+           SELECT updated_at FROM google_config WHERE tenant_id = (SELECT tenant_id FROM t)
+           UNION ALL
+           SELECT updated_at FROM sms_config WHERE tenant_id = (SELECT tenant_id FROM t)
+           UNION ALL
+           SELECT updated_at FROM otp_config WHERE tenant_id = (SELECT tenant_id FROM t)
+           UNION ALL
+           SELECT updated_at FROM contact_verify_config WHERE tenant_id = (SELECT tenant_id FROM t)
+           UNION ALL
+           SELECT updated_at FROM oidc_provider_config WHERE tenant_id = (SELECT tenant_id FROM t)
+           UNION ALL
+           SELECT updated_at FROM admin_config WHERE tenant_id = (SELECT tenant_id FROM t)
+           UNION ALL
+           SELECT updated_at FROM oidc_config WHERE tenant_id = (SELECT tenant_id FROM t)
+           UNION ALL
+           SELECT updated_at FROM guest_config WHERE tenant_id = (SELECT tenant_id FROM t)
+         ) config_versions""";
 
-  public static final String GOOGLE_AUTH_CONFIG =
-      """
-        SELECT client_id,
-               client_secret
-        FROM google_config
-        WHERE tenant_id = ?
-        """;
-
-  public static final String TOKEN_CONFIG =
-      """
-    SELECT algorithm,
-           issuer,
-           access_token_expiry,
-           refresh_token_expiry,
-           id_token_expiry,
-           id_token_claims,
-           rsa_keys,
-           cookie_same_site,
-           cookie_path,
-           cookie_domain,
-           cookie_secure,
-           cookie_http_only,
-           access_token_claims
-    FROM token_config
-    WHERE tenant_id = ?
+  // Each config table is folded into a JSON column so that a tenant loads in a single round-trip,
+  // together with the version stamp of the loaded rows
+  public static final String TENANT_CONFIG =
+      TENANT
+          + """
+    SELECT (SELECT JSON_OBJECT('tenant_id', tenant_id,
+                               'ttl', ttl,
+                               'length', length)
+            FROM auth_code_config
+            WHERE tenant_id = t.tenant_id
+            LIMIT 1) AS auth_code_config,
+           (SELECT JSON_OBJECT('is_ssl_enabled', is_ssl_enabled,
+                               'host', host,
+                               'port', port,
+                               'send_email_path', send_email_path,
+                               'template_name', template_name,
+                               'template_params', template_params)
+            FROM email_config
+            WHERE tenant_id = t.tenant_id
+            LIMIT 1) AS email_config,
+           (SELECT JSON_OBJECT('is_ssl_enabled', is_ssl_enabled,
+                               'host', host,
+                               'port', port,
+                               'get_user_path', get_user_path,
+                               'create_user_path', create_user_path,
+                               'authenticate_user_path', authenticate_user_path,
+                               'add_provider_path', add_provider_path,
+                               'send_provider_details', send_provider_details)
+            FROM user_config
+            WHERE tenant_id = t.tenant_id
+            LIMIT 1) AS user_config,
+           (SELECT JSON_OBJECT('algorithm', algorithm,
+                               'issuer', issuer,
+                               'access_token_expiry', access_token_expiry,
+                               'refresh_token_expiry', refresh_token_expiry,
+                               'id_token_expiry', id_token_expiry,
+                               'id_token_claims', id_token_claims,
+                               'rsa_keys', rsa_keys,
+                               'cookie_same_site', cookie_same_site,
+                               'cookie_path', cookie_path,
+                               'cookie_domain', cookie_domain,
+                               'cookie_secure', cookie_secure,
+                               'cookie_http_only', cookie_http_only,
+                               'access_token_claims', access_token_claims)
+            FROM token_config
+            WHERE tenant_id = t.tenant_id
+            LIMIT 1) AS token_config,
+           (SELECT JSON_OBJECT('app_id', app_id,
+                               'app_secret', app_secret,
+                               'send_app_secret', send_app_secret)
+            FROM fb_config
+            WHERE tenant_id = t.tenant_id
+            LIMIT 1) AS fb_config,
+           (SELECT JSON_OBJECT('client_id', client_id,
+                               'client_secret', client_secret)
+            FROM google_config
+            WHERE tenant_id = t.tenant_id
+            LIMIT 1) AS google_config,
+           (SELECT JSON_OBJECT('is_ssl_enabled', is_ssl_enabled,
+                               'host', host,
+                               'port', port,
+                               'send_sms_path', send_sms_path,
+                               'template_name', template_name,
+                               'template_params', template_params)
+            FROM sms_config
+            WHERE tenant_id = t.tenant_id
+            LIMIT 1) AS sms_config,
+           (SELECT JSON_OBJECT('otp_length', otp_length,
+                               'try_limit', try_limit,
+                               'is_otp_mocked', is_otp_mocked,
+                               'resend_limit', resend_limit,
+                               'otp_resend_interval', otp_resend_interval,
+                               'otp_validity', otp_validity,
+                               'whitelisted_inputs', whitelisted_inputs)
+            FROM otp_config
+            WHERE tenant_id = t.tenant_id
+            LIMIT 1) AS otp_config,
+           (SELECT JSON_OBJECT('otp_length', otp_length,
+                               'try_limit', try_limit,
+                               'is_otp_mocked', is_otp_mocked,
+                               'resend_limit', resend_limit,
+                               'otp_resend_interval', otp_resend_interval,
+                               'otp_validity', otp_validity,
+                               'whitelisted_inputs', whitelisted_inputs)
+            FROM contact_verify_config
+            WHERE tenant_id = t.tenant_id
+            LIMIT 1) AS contact_verify_config,
+           (SELECT JSON_ARRAYAGG(JSON_OBJECT('tenant_id', tenant_id,
+                                             'provider_name', provider_name,
+                                             'issuer', issuer,
+                                             'jwks_url', jwks_url,
+                                             'token_url', token_url,
+                                             'client_id', client_id,
+                                             'client_secret', client_secret,
+                                             'redirect_uri', redirect_uri,
+                                             'client_auth_method', client_auth_method,
+                                             'is_ssl_enabled', is_ssl_enabled,
+                                             'user_identifier', user_identifier,
+                                             'audience_claims', audience_claims))
+            FROM oidc_provider_config
+            WHERE tenant_id = t.tenant_id) AS oidc_provider_config,
+           (SELECT JSON_OBJECT('username', username,
+                               'password', password)
+            FROM admin_config
+            WHERE tenant_id = t.tenant_id
+            LIMIT 1) AS admin_config,
+           (SELECT JSON_OBJECT('tenant_id', tenant_id,
+                               'issuer', issuer,
+                               'authorization_endpoint', authorization_endpoint,
+                               'token_endpoint', token_endpoint,
+                               'userinfo_endpoint', userinfo_endpoint,
+                               'revocation_endpoint', revocation_endpoint,
+                               'jwks_uri', jwks_uri,
+                               'login_page_uri', login_page_uri,
+                               'consent_page_uri', consent_page_uri,
+                               'authorize_ttl', authorize_ttl,
+                               'grant_types_supported', grant_types_supported,
+                               'response_types_supported', response_types_supported,
+                               'subject_types_supported', subject_types_supported,
+                               'id_token_signing_alg_values_supported',
+                               id_token_signing_alg_values_supported,
+                               'token_endpoint_auth_methods_supported',
+                               token_endpoint_auth_methods_supported)
+            FROM oidc_config
+            WHERE tenant_id = t.tenant_id
+            LIMIT 1) AS oidc_config,
+           (SELECT JSON_OBJECT('tenant_id', tenant_id,
+                               'is_encrypted', is_encrypted,
+                               'secret_key', secret_key,
+                               'allowed_scopes', allowed_scopes)
+            FROM guest_config
+            WHERE tenant_id = t.tenant_id
+            LIMIT 1) AS guest_config,
+           ("""
+          + CONFIG_VERSION
+          + """
+    ) AS version
+    FROM t
     """;
 
-  public static final String OTP_CONFIG =
-      """
-    SELECT otp_length,
-           try_limit,
-           is_otp_mocked,
-           resend_limit,
-           otp_resend_interval,
-           otp_validity,
-           whitelisted_inputs
-    FROM otp_config
-    WHERE tenant_id = ?
-    """;
-
-  public static final String CONTACT_VERIFY_CONFIG =
-      """
-       SELECT otp_length,
-              try_limit,
-              is_otp_mocked,
-              resend_limit,
-              otp_resend_interval,
-              otp_validity,
-              whitelisted_inputs
-       FROM contact_verify_config
-       WHERE tenant_id = ?
-    """;
-
-  public static final String OIDC_PROVIDER_CONFIG =
-      """
-    SELECT tenant_id,
-           provider_name,
-           issuer,
-           jwks_url,
-           token_url,
-           client_id,
-           client_secret,
-           redirect_uri,
-           client_auth_method,
-           is_ssl_enabled,
-           user_identifier,
-           audience_claims
-    FROM oidc_provider_config
-    WHERE tenant_id = ?
-    """;
-
-  public static final String ADMIN_CONFIG =
-      """
-    SELECT username,
-           password
-    FROM admin_config
-    WHERE tenant_id = ?
-    """;
-
-  public static final String OIDC_CONFIG =
-      """
-    SELECT tenant_id,
-           issuer,
-           authorization_endpoint,
-           token_endpoint,
-           userinfo_endpoint,
-           revocation_endpoint,
-           jwks_uri,
-           login_page_uri,
-           consent_page_uri,
-           authorize_ttl,
-           grant_types_supported,
-           response_types_supported,
-           subject_types_supported,
-           id_token_signing_alg_values_supported,
-           token_endpoint_auth_methods_supported
-    FROM oidc_config
-    WHERE tenant_id = ?
-    """;
-
-  public static final String GUEST_CONFIG =
-      """
-     SELECT tenant_id,
-            is_encrypted,
-            secret_key,
-            allowed_scopes
-     FROM guest_config
-     WHERE tenant_id = ?
-     """;
+  public static final String TENANT_CONFIG_VERSION =
+      TENANT + "SELECT (" + CONFIG_VERSION + ") AS version";
 }
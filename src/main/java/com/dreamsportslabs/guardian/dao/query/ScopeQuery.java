@@ -16,8 +16,8 @@ public final class ScopeQuery {
 
   public static final String DELETE_SCOPE = "DELETE FROM scope WHERE tenant_id = ? AND name = ?";
 
-  public static final String GET_OIDC_SCOPES =
-      "SELECT name, display_name, description, claims, is_oidc, icon_url FROM scope WHERE tenant_id = ? AND is_oidc = true";
+  public static final String GET_ALL_SCOPES =
+      "SELECT name, display_name, description, claims, is_oidc, icon_url FROM scope WHERE tenant_id = ?";
 
   public static final String UPDATE_SCOPE =
       "UPDATE scope SET <<update_attributes>> WHERE tenant_id = ? AND name = ?";
@@ -1,7 +1,13 @@
 package com.dreamsportslabs.guardian.dto.request;
 
+import static com.dreamsportslabs.guardian.constant.Constants.CURVE_ED25519;
+import static com.dreamsportslabs.guardian.constant.Constants.CURVE_P256;
 import static com.dreamsportslabs.guardian.constant.Constants.FORMAT_JWKS;
 import static com.dreamsportslabs.guardian.constant.Constants.FORMAT_PEM;
+import static com.dreamsportslabs.guardian.constant.Constants.KEY_TYPE_EC;
+import static com.dreamsportslabs.guardian.constant.Constants.KEY_TYPE_OKP;
+import static com.dreamsportslabs.guardian.constant.Constants.KEY_TYPE_RSA;
+import static com.dreamsportslabs.guardian.constant.Constants.VALID_EC_CURVES;
 import static com.dreamsportslabs.guardian.constant.Constants.VALID_KEY_SIZES;
 import static com.dreamsportslabs.guardian.exception.ErrorEnum.INVALID_REQUEST;
 
@@ -11,13 +17,39 @@ import org.apache.commons.lang3.StringUtils;
 @Data
 public class GenerateRsaKeyRequestDto {
 
+  private String keyType = KEY_TYPE_RSA;
   private Integer keySize = 2048;
+  private String curve;
   private String format = FORMAT_PEM;
 
   public void validate() {
-    if (!VALID_KEY_SIZES.contains(keySize)) {
-      throw INVALID_REQUEST.getCustomException(
-          "Invalid RSA key length. Allowed values are [2048, 3072, 4096]");
+    switch (StringUtils.defaultString(keyType)) {
+      case KEY_TYPE_RSA -> {
+        if (!VALID_KEY_SIZES.contains(keySize)) {
+          throw INVALID_REQUEST.getCustomException(
+              "Invalid RSA key length. Allowed values are [2048, 3072, 4096]");
+        }
+      }
+      case KEY_TYPE_EC -> {
+        if (curve == null) {
+          curve = CURVE_P256;
+        }
+        if (!VALID_EC_CURVES.contains(curve)) {
+          throw INVALID_REQUEST.getCustomException(
+              "Invalid EC curve. Allowed values are [P-256, P-384, P-521]");
+        }
+      }
+      case KEY_TYPE_OKP -> {
+        if (curve == null) {
+          curve = CURVE_ED25519;
+        }
+        if (!CURVE_ED25519.equals(curve)) {
+          throw INVALID_REQUEST.getCustomException(
+              "Invalid OKP curve. Allowed values are [Ed25519]");
+        }
+      }
+      default -> throw INVALID_REQUEST.getCustomException(
+          "Invalid key type. Allowed values are RSA, EC or OKP");
     }
 
     if (!StringUtils.equals(this.format, FORMAT_PEM)
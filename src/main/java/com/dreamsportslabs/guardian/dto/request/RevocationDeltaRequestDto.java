@@ -0,0 +1,60 @@
+package com.dreamsportslabs.guardian.dto.request;
+
+import static com.dreamsportslabs.guardian.constant.Constants.REVOCATIONS_DELTA_DEFAULT_LIMIT;
+import static com.dreamsportslabs.guardian.constant.Constants.REVOCATIONS_DELTA_MAX_LIMIT;
+import static com.dreamsportslabs.guardian.constant.Constants.REVOCATIONS_DELTA_MAX_WAIT;
+import static com.dreamsportslabs.guardian.exception.ErrorEnum.INVALID_REQUEST;
+
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.HttpHeaders;
+import java.util.regex.Pattern;
+import lombok.Data;
+
+@Data
+public class RevocationDeltaRequestDto {
+  private static final Pattern CURSOR_PATTERN = Pattern.compile("\\d+-\\d+");
+
+  @QueryParam("cursor")
+  private String cursor;
+
+  @QueryParam("limit")
+  private Integer limit;
+
+  @QueryParam("wait")
+  private Integer wait;
+
+  @HeaderParam(HttpHeaders.IF_NONE_MATCH)
+  private String ifNoneMatch;
+
+  public void validate() {
+    if (cursor == null && ifNoneMatch != null) {
+      cursor = getEntityTagValue(ifNoneMatch);
+    }
+    if (cursor != null && !CURSOR_PATTERN.matcher(cursor).matches()) {
+      throw INVALID_REQUEST.getCustomException("Invalid cursor");
+    }
+
+    if (limit == null) {
+      limit = REVOCATIONS_DELTA_DEFAULT_LIMIT;
+    } else if (limit <= 0 || limit > REVOCATIONS_DELTA_MAX_LIMIT) {
+      throw INVALID_REQUEST.getCustomException(
+          "limit must be between 1 and " + REVOCATIONS_DELTA_MAX_LIMIT);
+    }
+
+    if (wait == null) {
+      wait = 0;
+    } else if (wait < 0 || wait > REVOCATIONS_DELTA_MAX_WAIT) {
+      throw INVALID_REQUEST.getCustomException(
+          "wait must be between 0 and " + REVOCATIONS_DELTA_MAX_WAIT);
+    }
+  }
+
+  public boolean matchesEntityTag(String entityTag) {
+    return ifNoneMatch != null && getEntityTagValue(ifNoneMatch).equals(entityTag);
+  }
+
+  private static String getEntityTagValue(String header) {
+    return header.replaceFirst("^W/", "").replace("\"", "").trim();
+  }
+}
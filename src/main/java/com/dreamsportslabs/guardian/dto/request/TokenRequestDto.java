@@ -75,7 +75,7 @@ public class TokenRequestDto {
           "Both 'Authorization' header and 'client_id' parameter are missing");
     }
 
-    TenantConfig tenantConfig = registry.get(tenantId, TenantConfig.class);
+    TenantConfig tenantConfig = registry.get(tenantId).getTenantConfig();
     List<OidcTokenEndpointAuthMethod> endpointAuthMethods =
         tenantConfig.getOidcConfig().getTokenEndpointAuthMethodsSupported();
 
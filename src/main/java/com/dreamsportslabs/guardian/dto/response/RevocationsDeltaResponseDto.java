@@ -0,0 +1,13 @@
+package com.dreamsportslabs.guardian.dto.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class RevocationsDeltaResponseDto {
+  private List<String> revocations;
+  private String cursor;
+  private Integer expiry;
+}
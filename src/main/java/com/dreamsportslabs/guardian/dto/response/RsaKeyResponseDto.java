@@ -9,7 +9,9 @@ import lombok.extern.jackson.Jacksonized;
 @Getter
 public class RsaKeyResponseDto {
   private String kid;
+  private String keyType;
   private Object publicKey;
   private Object privateKey;
   private Integer keySize;
+  private String curve;
 }
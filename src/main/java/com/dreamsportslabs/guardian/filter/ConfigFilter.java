@@ -32,7 +32,9 @@ public class ConfigFilter implements ContainerRequestFilter {
   public void filter(ContainerRequestContext requestContext) {
     // Todo: create a filter annotation instead of filtering out routes here, @Config
     String path = requestContext.getUriInfo().getPath();
-    if (path.equalsIgnoreCase("/healthcheck") || path.equalsIgnoreCase("/v1/keys/generate")) {
+    if (path.equalsIgnoreCase("/healthcheck")
+        || path.equalsIgnoreCase("/metrics")
+        || path.equalsIgnoreCase("/v1/keys/generate")) {
       return;
     }
 
@@ -1,14 +1,21 @@
 package com.dreamsportslabs.guardian.injection;
 
+import static com.dreamsportslabs.guardian.constant.Constants.REDIS_READER;
+
 import com.dreamsportslabs.guardian.cache.TenantCache;
 import com.dreamsportslabs.guardian.client.MysqlClient;
 import com.dreamsportslabs.guardian.client.impl.MysqlClientImpl;
 import com.dreamsportslabs.guardian.registry.Registry;
 import com.dreamsportslabs.guardian.utils.SharedDataUtils;
 import com.google.inject.AbstractModule;
+import com.google.inject.name.Names;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.vertx.core.Vertx;
+import io.vertx.micrometer.backends.BackendRegistries;
 import io.vertx.rxjava3.ext.web.client.WebClient;
 import io.vertx.rxjava3.redis.client.Redis;
+import java.util.Optional;
 
 public class MainModule extends AbstractModule {
   private final Vertx vertx;
@@ -24,8 +31,18 @@ public class MainModule extends AbstractModule {
         .toInstance(io.vertx.rxjava3.core.Vertx.newInstance(vertx));
     bind(MysqlClient.class).toProvider(() -> SharedDataUtils.get(vertx, MysqlClientImpl.class));
     bind(Redis.class).toProvider(() -> SharedDataUtils.get(vertx, Redis.class));
+    bind(Redis.class)
+        .annotatedWith(Names.named(REDIS_READER))
+        .toProvider(() -> SharedDataUtils.get(vertx, Redis.class, REDIS_READER));
     bind(WebClient.class).toProvider(() -> SharedDataUtils.get(vertx, WebClient.class));
     bind(Registry.class).toProvider(() -> SharedDataUtils.get(vertx, Registry.class));
     bind(TenantCache.class).toProvider(() -> SharedDataUtils.get(vertx, TenantCache.class));
+    bind(MeterRegistry.class).toInstance(getMeterRegistry());
+  }
+
+  private MeterRegistry getMeterRegistry() {
+    // Falls back to an in-memory registry when vertx is started without metrics enabled
+    return Optional.ofNullable(BackendRegistries.getDefaultNow())
+        .orElseGet(SimpleMeterRegistry::new);
   }
 }
@@ -1,21 +1,47 @@
 package com.dreamsportslabs.guardian.jwtVerifier;
 
+import static com.dreamsportslabs.guardian.jwtVerifier.constants.Constants.DEFAULT_KEYS_FETCH_TIMEOUT_MILLIS;
+import static com.dreamsportslabs.guardian.jwtVerifier.constants.Constants.MIN_REFRESH_INTERVAL_MILLIS;
+
 import com.dreamsportslabs.guardian.jwtVerifier.exception.PublicKeysManagerException;
 import io.fusionauth.jwks.JSONWebKeySetHelper;
 import io.fusionauth.jwks.domain.JSONWebKey;
+import java.lang.ref.WeakReference;
 import java.security.PublicKey;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
-
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Holds the public keys of a JWKS endpoint in an immutable map that is swapped atomically, so key
+ * lookups never wait on a lock. Keys are refreshed in the background ahead of expiry, and a lookup
+ * for an unknown kid answers from the current keys while it triggers at most one concurrent fetch.
+ * The only lookups that wait are those made before the key set has ever been loaded.
+ */
+@Slf4j
 class PublicKeysManager {
   private static final long REFRESH_SKEW_MILLIS = 120000L;
-  private String publicCertsEncodedUrl;
-  private Long refreshTimeout;
-  private Long expirationTime;
-  private Map<String, PublicKey> publicKeys;
-  private Lock lock;
+  private static final ScheduledExecutorService REFRESH_EXECUTOR =
+      Executors.newScheduledThreadPool(
+          2,
+          runnable -> {
+            Thread thread = new Thread(runnable, "jwks-refresh");
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  private final String publicCertsEncodedUrl;
+  // Null until the key set of the url has been loaded once
+  private final AtomicReference<Map<String, PublicKey>> publicKeys;
+  private final AtomicReference<CompletableFuture<Map<String, PublicKey>>> inFlightRefresh =
+      new AtomicReference<>();
+  private volatile long lastRefreshAttempt;
 
   PublicKeysManager(Builder builder) {
     if (builder.publicKeys == null && builder.publicCertsEncodedUrl == null) {
@@ -24,17 +50,20 @@ class PublicKeysManager {
     }
 
     if (builder.publicKeys != null) {
-      this.publicKeys = new HashMap<>();
+      Map<String, PublicKey> keys = new HashMap<>();
       for (Map.Entry<String, String> key : builder.publicKeys.entrySet()) {
-        this.publicKeys.put(key.getKey(), JSONWebKey.parse(JSONWebKey.build(key.getValue())));
+        keys.put(key.getKey(), JSONWebKey.parse(JSONWebKey.build(key.getValue())));
       }
+      this.publicCertsEncodedUrl = null;
+      this.publicKeys = new AtomicReference<>(Map.copyOf(keys));
       return;
     }
 
     this.publicCertsEncodedUrl = builder.publicCertsEncodedUrl;
-    this.refreshTimeout = builder.refreshTimeout;
+    this.publicKeys = new AtomicReference<>();
 
-    this.lock = new ReentrantLock();
+    refresh();
+    scheduleRefresh(this, builder.refreshTimeout * 1000 - REFRESH_SKEW_MILLIS);
   }
 
   static Builder builder() {
@@ -42,44 +71,91 @@ class PublicKeysManager {
   }
 
   Map<String, PublicKey> getPublicKeyMap() {
-    if (this.publicCertsEncodedUrl == null) {
-      return this.publicKeys;
-    }
+    Map<String, PublicKey> keys = this.publicKeys.get();
+    return keys == null ? Map.of() : keys;
+  }
 
-    this.lock.lock();
-    try {
-      if (this.publicKeys == null || this.isExpired()) {
-        this.refresh();
-      }
-    } finally {
-      this.lock.unlock();
+  PublicKey getPublicKey(String keyId) {
+    Map<String, PublicKey> keys = this.publicKeys.get();
+    if (keys == null) {
+      keys = awaitFirstLoad();
     }
 
-    return this.publicKeys;
-  }
-
-  private boolean isExpired() {
-    return System.currentTimeMillis() + REFRESH_SKEW_MILLIS > this.expirationTime;
+    PublicKey publicKey = keys.get(keyId);
+    if (publicKey == null
+        && this.publicCertsEncodedUrl != null
+        && System.currentTimeMillis() - this.lastRefreshAttempt >= MIN_REFRESH_INTERVAL_MILLIS) {
+      refresh();
+    }
+    return publicKey;
   }
 
-  private void refresh() {
-    this.lock.lock();
+  // The one blocking path, taken only until the key set has been loaded for the first time
+  private Map<String, PublicKey> awaitFirstLoad() {
+    CompletableFuture<Map<String, PublicKey>> refresh = this.inFlightRefresh.get();
+    if (refresh == null) {
+      refresh = refresh();
+    }
 
     try {
-      this.publicKeys = new HashMap<>();
-
-      for (JSONWebKey key : JSONWebKeySetHelper.retrieveKeysFromJWKS(this.publicCertsEncodedUrl)) {
-        this.publicKeys.put(key.kid, JSONWebKey.parse(key));
-      }
-
-      this.expirationTime = System.currentTimeMillis() + this.refreshTimeout * 1000;
+      return refresh.get(DEFAULT_KEYS_FETCH_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new PublicKeysManagerException("Interrupted while loading public keys", e);
     } catch (Exception e) {
       throw new PublicKeysManagerException("Failed to create public keys from public certs url", e);
-    } finally {
-      this.lock.unlock();
     }
   }
 
+  private CompletableFuture<Map<String, PublicKey>> refresh() {
+    CompletableFuture<Map<String, PublicKey>> refresh = new CompletableFuture<>();
+    if (!this.inFlightRefresh.compareAndSet(null, refresh)) {
+      CompletableFuture<Map<String, PublicKey>> existing = this.inFlightRefresh.get();
+      return existing != null ? existing : CompletableFuture.completedFuture(getPublicKeyMap());
+    }
+
+    this.lastRefreshAttempt = System.currentTimeMillis();
+    REFRESH_EXECUTOR.execute(
+        () -> {
+          try {
+            Map<String, PublicKey> keys = new HashMap<>();
+            for (JSONWebKey key :
+                JSONWebKeySetHelper.retrieveKeysFromJWKS(this.publicCertsEncodedUrl)) {
+              keys.put(key.kid, JSONWebKey.parse(key));
+            }
+            Map<String, PublicKey> snapshot = Map.copyOf(keys);
+            this.publicKeys.set(snapshot);
+            refresh.complete(snapshot);
+          } catch (Exception e) {
+            log.warn("Failed to refresh public keys from {}", this.publicCertsEncodedUrl, e);
+            refresh.completeExceptionally(e);
+          } finally {
+            this.inFlightRefresh.compareAndSet(refresh, null);
+          }
+        });
+    return refresh;
+  }
+
+  // Holds the manager weakly so that the periodic task does not keep an abandoned verifier alive
+  private static void scheduleRefresh(PublicKeysManager manager, long periodMillis) {
+    WeakReference<PublicKeysManager> reference = new WeakReference<>(manager);
+    AtomicReference<ScheduledFuture<?>> task = new AtomicReference<>();
+    long period = Math.max(periodMillis, MIN_REFRESH_INTERVAL_MILLIS);
+    task.set(
+        REFRESH_EXECUTOR.scheduleWithFixedDelay(
+            () -> {
+              PublicKeysManager current = reference.get();
+              if (current == null) {
+                task.get().cancel(false);
+                return;
+              }
+              current.refresh();
+            },
+            period,
+            period,
+            TimeUnit.MILLISECONDS));
+  }
+
   static class Builder {
     String publicCertsEncodedUrl;
     Map<String, String> publicKeys;
@@ -0,0 +1,204 @@
+package com.dreamsportslabs.guardian.jwtVerifier;
+
+import static com.dreamsportslabs.guardian.jwtVerifier.constants.Constants.DEFAULT_REVOCATIONS_REFRESH_INTERVAL_MILLIS;
+import static com.dreamsportslabs.guardian.jwtVerifier.constants.Constants.DEFAULT_REVOCATIONS_REQUEST_TIMEOUT_MILLIS;
+import static com.dreamsportslabs.guardian.jwtVerifier.constants.Constants.REVOCATIONS_DELTA_PATH;
+import static com.dreamsportslabs.guardian.jwtVerifier.constants.Constants.REVOCATIONS_PAGE_SIZE;
+import static com.dreamsportslabs.guardian.jwtVerifier.constants.Constants.TENANT_ID_HEADER;
+
+import com.dreamsportslabs.guardian.jwtVerifier.exception.RevocationMirrorException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.lang.ref.WeakReference;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * In-memory copy of the revoked refresh token ids of a tenant, kept current from Guardian's delta
+ * revocation feed on a background thread, so that revocation checks never make a network call. An
+ * id is dropped once every access token issued for it must have expired.
+ */
+class RevocationMirror {
+  private static final int HTTP_OK = 200;
+  private static final int HTTP_NOT_MODIFIED = 304;
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+  private static final ScheduledExecutorService REFRESH_EXECUTOR =
+      Executors.newSingleThreadScheduledExecutor(
+          runnable -> {
+            Thread thread = new Thread(runnable, "revocation-mirror-refresh");
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  private final HttpClient httpClient;
+  private final String deltaUrl;
+  private final String tenantId;
+  private final Duration requestTimeout;
+  private final TokenValidatorMetrics metrics;
+  private final ScheduledFuture<?> refreshTask;
+  // Revoked rft ids mapped to the time after which no access token for them can still be valid
+  private final Map<String, Long> revokedUntil = new ConcurrentHashMap<>();
+  private volatile String cursor;
+  private volatile long lastSyncMillis;
+
+  RevocationMirror(Builder builder) {
+    if (builder.guardianUrl == null || builder.tenantId == null) {
+      throw new RevocationMirrorException("Both guardianUrl and tenantId must be provided.");
+    }
+
+    this.deltaUrl = builder.guardianUrl.replaceAll("/+$", "") + REVOCATIONS_DELTA_PATH;
+    this.tenantId = builder.tenantId;
+    this.requestTimeout = Duration.ofMillis(builder.requestTimeoutMillis);
+    this.metrics = builder.metrics;
+    this.httpClient = HttpClient.newBuilder().connectTimeout(this.requestTimeout).build();
+
+    sync();
+    this.refreshTask = scheduleRefresh(this, builder.refreshIntervalMillis);
+  }
+
+  static Builder builder() {
+    return new Builder();
+  }
+
+  boolean isRevoked(String rftId) {
+    return this.revokedUntil.containsKey(rftId);
+  }
+
+  int size() {
+    return this.revokedUntil.size();
+  }
+
+  long getLastSyncMillis() {
+    return this.lastSyncMillis;
+  }
+
+  void close() {
+    this.refreshTask.cancel(false);
+  }
+
+  // Pages through the feed until it is drained, the cursor makes a failed sync safe to retry
+  synchronized void sync() {
+    try {
+      JsonNode page;
+      do {
+        HttpResponse<String> response =
+            this.httpClient.send(buildRequest(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() == HTTP_NOT_MODIFIED) {
+          break;
+        }
+        if (response.statusCode() != HTTP_OK) {
+          throw new RevocationMirrorException(
+              "Revocation feed returned status " + response.statusCode());
+        }
+
+        page = OBJECT_MAPPER.readTree(response.body());
+        long until =
+            System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(page.get("expiry").asLong());
+        page.get("revocations").forEach(rftId -> this.revokedUntil.put(rftId.asText(), until));
+        this.cursor = page.get("cursor").asText();
+      } while (page.get("revocations").size() >= REVOCATIONS_PAGE_SIZE);
+    } catch (RevocationMirrorException e) {
+      throw e;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RevocationMirrorException("Interrupted while syncing revocations", e);
+    } catch (Exception e) {
+      throw new RevocationMirrorException("Failed to sync revocations from " + this.deltaUrl, e);
+    }
+
+    long now = System.currentTimeMillis();
+    this.revokedUntil.values().removeIf(until -> until <= now);
+    this.lastSyncMillis = now;
+  }
+
+  private HttpRequest buildRequest() {
+    String url = this.deltaUrl + "?limit=" + REVOCATIONS_PAGE_SIZE;
+    HttpRequest.Builder request =
+        HttpRequest.newBuilder()
+            .GET()
+            .timeout(this.requestTimeout)
+            .header(TENANT_ID_HEADER, this.tenantId);
+    if (this.cursor != null) {
+      url += "&cursor=" + URLEncoder.encode(this.cursor, StandardCharsets.UTF_8);
+      request.header("If-None-Match", "\"" + this.cursor + "\"");
+    }
+    return request.uri(URI.create(url)).build();
+  }
+
+  // Holds the mirror weakly so that an abandoned validator that was never closed is not kept alive
+  private static ScheduledFuture<?> scheduleRefresh(RevocationMirror mirror, long periodMillis) {
+    WeakReference<RevocationMirror> reference = new WeakReference<>(mirror);
+    AtomicReference<ScheduledFuture<?>> task = new AtomicReference<>();
+    task.set(
+        REFRESH_EXECUTOR.scheduleWithFixedDelay(
+            () -> {
+              RevocationMirror current = reference.get();
+              if (current == null) {
+                task.get().cancel(false);
+                return;
+              }
+              try {
+                current.sync();
+              } catch (RevocationMirrorException e) {
+                if (current.metrics != null) {
+                  current.metrics.recordRefreshFailure();
+                }
+              }
+            },
+            periodMillis,
+            periodMillis,
+            TimeUnit.MILLISECONDS));
+    return task.get();
+  }
+
+  static class Builder {
+    String guardianUrl;
+    String tenantId;
+    long refreshIntervalMillis = DEFAULT_REVOCATIONS_REFRESH_INTERVAL_MILLIS;
+    long requestTimeoutMillis = DEFAULT_REVOCATIONS_REQUEST_TIMEOUT_MILLIS;
+    TokenValidatorMetrics metrics;
+
+    Builder() {}
+
+    RevocationMirror build() {
+      return new RevocationMirror(this);
+    }
+
+    Builder guardianUrl(String guardianUrl) {
+      this.guardianUrl = guardianUrl;
+      return this;
+    }
+
+    Builder tenantId(String tenantId) {
+      this.tenantId = tenantId;
+      return this;
+    }
+
+    Builder refreshIntervalMillis(long refreshIntervalMillis) {
+      this.refreshIntervalMillis = refreshIntervalMillis;
+      return this;
+    }
+
+    Builder requestTimeoutMillis(long requestTimeoutMillis) {
+      this.requestTimeoutMillis = requestTimeoutMillis;
+      return this;
+    }
+
+    Builder metrics(TokenValidatorMetrics metrics) {
+      this.metrics = metrics;
+      return this;
+    }
+  }
+}
@@ -0,0 +1,140 @@
+package com.dreamsportslabs.guardian.jwtVerifier;
+
+import static com.dreamsportslabs.guardian.jwtVerifier.constants.Constants.DEFAULT_REFRESH_TIMEOUT;
+import static com.dreamsportslabs.guardian.jwtVerifier.constants.Constants.DEFAULT_REVOCATIONS_REFRESH_INTERVAL_MILLIS;
+import static com.dreamsportslabs.guardian.jwtVerifier.constants.Constants.DEFAULT_REVOCATIONS_REQUEST_TIMEOUT_MILLIS;
+import static com.dreamsportslabs.guardian.jwtVerifier.constants.Constants.JWT_CLAIMS_RFT_ID;
+
+import com.dreamsportslabs.guardian.jwtVerifier.exception.InvalidTokenException;
+import java.util.Map;
+
+/**
+ * Validates Guardian access tokens entirely in process. On top of the signature, issuer, expiry and
+ * optional audience checks of {@link TokenVerifier}, tokens whose refresh token has been revoked
+ * are rejected using a local mirror of the tenant's revocations that is synced in the background.
+ * Building the validator performs the first sync, and fails if Guardian cannot be reached. Close
+ * the validator to stop the background sync.
+ */
+public class TokenValidator implements AutoCloseable {
+  private final TokenVerifier tokenVerifier;
+  private final RevocationMirror revocationMirror;
+  private final TokenValidatorMetrics metrics;
+
+  TokenValidator(Builder builder) {
+    this.tokenVerifier =
+        builder.publicKeys != null
+            ? new TokenVerifier(builder.publicKeys, builder.issuer)
+            : new TokenVerifier(
+                builder.publicCertsEncodedUrl, builder.issuer, builder.keysRefreshTimeout);
+    this.metrics = new TokenValidatorMetrics();
+    this.revocationMirror =
+        RevocationMirror.builder()
+            .guardianUrl(builder.guardianUrl)
+            .tenantId(builder.tenantId)
+            .refreshIntervalMillis(builder.revocationsRefreshIntervalMillis)
+            .requestTimeoutMillis(builder.revocationsRequestTimeoutMillis)
+            .metrics(this.metrics)
+            .build();
+    this.metrics.setRevocationMirror(this.revocationMirror);
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  public Map<String, Object> validate(String token) {
+    return validate(token, null);
+  }
+
+  public Map<String, Object> validate(String token, String audience) {
+    Map<String, Object> claims;
+    try {
+      claims =
+          audience == null
+              ? this.tokenVerifier.verify(token)
+              : this.tokenVerifier.verify(token, audience);
+    } catch (RuntimeException e) {
+      this.metrics.recordInvalid();
+      throw e;
+    }
+
+    Object rftId = claims.get(JWT_CLAIMS_RFT_ID);
+    if (rftId != null && this.revocationMirror.isRevoked(rftId.toString())) {
+      this.metrics.recordRevoked();
+      throw new InvalidTokenException("Token revoked");
+    }
+
+    this.metrics.recordValid();
+    return claims;
+  }
+
+  public TokenValidatorMetrics getMetrics() {
+    return this.metrics;
+  }
+
+  /** Stops syncing revocations. Tokens must not be validated after the validator is closed. */
+  @Override
+  public void close() {
+    this.revocationMirror.close();
+    this.metrics.setRevocationMirror(null);
+  }
+
+  public static class Builder {
+    private String guardianUrl;
+    private String tenantId;
+    private String issuer;
+    private String publicCertsEncodedUrl;
+    private Map<String, String> publicKeys;
+    private Long keysRefreshTimeout = DEFAULT_REFRESH_TIMEOUT;
+    private long revocationsRefreshIntervalMillis = DEFAULT_REVOCATIONS_REFRESH_INTERVAL_MILLIS;
+    private long revocationsRequestTimeoutMillis = DEFAULT_REVOCATIONS_REQUEST_TIMEOUT_MILLIS;
+
+    private Builder() {}
+
+    public TokenValidator build() {
+      return new TokenValidator(this);
+    }
+
+    /** Base url of Guardian, the revocation feed is read from its /v1/revocations/delta. */
+    public Builder guardianUrl(String guardianUrl) {
+      this.guardianUrl = guardianUrl;
+      return this;
+    }
+
+    public Builder tenantId(String tenantId) {
+      this.tenantId = tenantId;
+      return this;
+    }
+
+    public Builder issuer(String issuer) {
+      this.issuer = issuer;
+      return this;
+    }
+
+    public Builder publicCertsEncodedUrl(String publicCertsEncodedUrl) {
+      this.publicCertsEncodedUrl = publicCertsEncodedUrl;
+      return this;
+    }
+
+    public Builder publicKeys(Map<String, String> publicKeys) {
+      this.publicKeys = publicKeys;
+      return this;
+    }
+
+    /** Seconds between refreshes of the public keys fetched from publicCertsEncodedUrl. */
+    public Builder keysRefreshTimeout(long keysRefreshTimeout) {
+      this.keysRefreshTimeout = keysRefreshTimeout;
+      return this;
+    }
+
+    public Builder revocationsRefreshIntervalMillis(long revocationsRefreshIntervalMillis) {
+      this.revocationsRefreshIntervalMillis = revocationsRefreshIntervalMillis;
+      return this;
+    }
+
+    public Builder revocationsRequestTimeoutMillis(long revocationsRequestTimeoutMillis) {
+      this.revocationsRequestTimeoutMillis = revocationsRequestTimeoutMillis;
+      return this;
+    }
+  }
+}
@@ -0,0 +1,97 @@
+package com.dreamsportslabs.guardian.jwtVerifier;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Counts validation outcomes and tracks the state of the revocation mirror. The counts can be read
+ * directly, or published by binding this to a Micrometer registry.
+ */
+public class TokenValidatorMetrics implements MeterBinder {
+  private static final String METRIC_TOKENS = "guardian.validator.tokens";
+  private static final String METRIC_REVOCATIONS_SIZE = "guardian.validator.revocations.size";
+  private static final String METRIC_REFRESH_FAILURES =
+      "guardian.validator.revocations.refresh.failures";
+  private static final String METRIC_STALENESS = "guardian.validator.revocations.staleness";
+  private static final String TAG_RESULT = "result";
+
+  private final AtomicLong valid = new AtomicLong();
+  private final AtomicLong invalid = new AtomicLong();
+  private final AtomicLong revoked = new AtomicLong();
+  private final AtomicLong refreshFailures = new AtomicLong();
+  private final AtomicReference<RevocationMirror> revocationMirror = new AtomicReference<>();
+
+  TokenValidatorMetrics() {}
+
+  void setRevocationMirror(RevocationMirror mirror) {
+    this.revocationMirror.set(mirror);
+  }
+
+  void recordValid() {
+    this.valid.incrementAndGet();
+  }
+
+  void recordInvalid() {
+    this.invalid.incrementAndGet();
+  }
+
+  void recordRevoked() {
+    this.revoked.incrementAndGet();
+  }
+
+  void recordRefreshFailure() {
+    this.refreshFailures.incrementAndGet();
+  }
+
+  public long getValidCount() {
+    return this.valid.get();
+  }
+
+  public long getInvalidCount() {
+    return this.invalid.get();
+  }
+
+  public long getRevokedCount() {
+    return this.revoked.get();
+  }
+
+  public long getRefreshFailureCount() {
+    return this.refreshFailures.get();
+  }
+
+  public int getRevocationsSize() {
+    RevocationMirror mirror = this.revocationMirror.get();
+    return mirror == null ? 0 : mirror.size();
+  }
+
+  /** Milliseconds since the revocation mirror last synced with Guardian. */
+  public long getRevocationsStalenessMillis() {
+    RevocationMirror mirror = this.revocationMirror.get();
+    return mirror == null ? 0 : System.currentTimeMillis() - mirror.getLastSyncMillis();
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    FunctionCounter.builder(METRIC_TOKENS, this.valid, AtomicLong::get)
+        .tag(TAG_RESULT, "valid")
+        .register(registry);
+    FunctionCounter.builder(METRIC_TOKENS, this.invalid, AtomicLong::get)
+        .tag(TAG_RESULT, "invalid")
+        .register(registry);
+    FunctionCounter.builder(METRIC_TOKENS, this.revoked, AtomicLong::get)
+        .tag(TAG_RESULT, "revoked")
+        .register(registry);
+    FunctionCounter.builder(METRIC_REFRESH_FAILURES, this.refreshFailures, AtomicLong::get)
+        .register(registry);
+    Gauge.builder(METRIC_REVOCATIONS_SIZE, this, TokenValidatorMetrics::getRevocationsSize)
+        .register(registry);
+    Gauge.builder(
+            METRIC_STALENESS, this, metrics -> metrics.getRevocationsStalenessMillis() / 1000.0)
+        .baseUnit("seconds")
+        .register(registry);
+  }
+}
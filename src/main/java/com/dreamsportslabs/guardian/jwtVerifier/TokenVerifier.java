@@ -9,17 +9,20 @@ import io.fusionauth.jwt.JWTDecoder;
 import io.fusionauth.jwt.Verifier;
 import io.fusionauth.jwt.domain.JWT;
 import io.fusionauth.jwt.ec.ECVerifier;
+import io.fusionauth.jwt.ed.EdDSAVerifier;
 import io.fusionauth.jwt.rsa.RSAVerifier;
 import java.security.PublicKey;
 import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.EdECPublicKey;
 import java.security.interfaces.RSAPublicKey;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 public class TokenVerifier {
   private final JWTDecoder decoder;
-  private final PublicKeysManager publicKeysManager;
+  private final Function<String, PublicKey> publicKeyResolver;
   private final String issuer;
 
   public TokenVerifier(String publicCertsEncodedUrl, String issuer) {
@@ -29,17 +32,30 @@ public class TokenVerifier {
   public TokenVerifier(String publicCertsEncodedUrl, String issuer, Long refreshTimeout) {
     this.issuer = issuer;
     this.decoder = JWT.getDecoder();
-    this.publicKeysManager =
+    PublicKeysManager publicKeysManager =
         PublicKeysManager.builder()
             .publicCertsEncodedUrl(publicCertsEncodedUrl)
             .refreshTimeout(refreshTimeout)
             .build();
+    this.publicKeyResolver = publicKeysManager::getPublicKey;
   }
 
   public TokenVerifier(Map<String, String> publicKeys, String issuer) {
     this.issuer = issuer;
     this.decoder = JWT.getDecoder();
-    this.publicKeysManager = PublicKeysManager.builder().publicKeys(publicKeys).build();
+    PublicKeysManager publicKeysManager =
+        PublicKeysManager.builder().publicKeys(publicKeys).build();
+    this.publicKeyResolver = publicKeysManager::getPublicKey;
+  }
+
+  /**
+   * Uses the given resolver to look up the public key for a kid, for callers that manage the key
+   * set themselves. The resolver should return null for unknown kids.
+   */
+  public TokenVerifier(Function<String, PublicKey> publicKeyResolver, String issuer) {
+    this.issuer = issuer;
+    this.decoder = JWT.getDecoder();
+    this.publicKeyResolver = publicKeyResolver;
   }
 
   public Map<String, Object> verify(String token) {
@@ -60,7 +76,7 @@ public class TokenVerifier {
   }
 
   private Verifier getVerifier(String keyId) {
-    PublicKey publicKey = this.publicKeysManager.getPublicKeyMap().get(keyId);
+    PublicKey publicKey = this.publicKeyResolver.apply(keyId);
     if (publicKey == null) {
       throw new InvalidTokenException("Invalid Signature");
     }
@@ -68,6 +84,8 @@ public class TokenVerifier {
       return RSAVerifier.newVerifier(publicKey);
     } else if (publicKey instanceof ECPublicKey) {
       return ECVerifier.newVerifier(publicKey);
+    } else if (publicKey instanceof EdECPublicKey) {
+      return EdDSAVerifier.newVerifier(publicKey);
     } else {
       throw new InvalidTokenException("Unsupported Algorithm");
     }
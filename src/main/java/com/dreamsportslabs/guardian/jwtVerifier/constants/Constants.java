@@ -4,4 +4,12 @@ public class Constants {
   public static final String JWT_CLAIMS_ISSUER = "iss";
   public static final String JWT_CLAIMS_AUDIENCE = "aud";
   public static final Long DEFAULT_REFRESH_TIMEOUT = 1800L;
+  public static final long DEFAULT_KEYS_FETCH_TIMEOUT_MILLIS = 5000L;
+  public static final long MIN_REFRESH_INTERVAL_MILLIS = 30000L;
+  public static final String JWT_CLAIMS_RFT_ID = "rft_id";
+  public static final String TENANT_ID_HEADER = "tenant-id";
+  public static final String REVOCATIONS_DELTA_PATH = "/v1/revocations/delta";
+  public static final int REVOCATIONS_PAGE_SIZE = 10000;
+  public static final long DEFAULT_REVOCATIONS_REFRESH_INTERVAL_MILLIS = 5000L;
+  public static final long DEFAULT_REVOCATIONS_REQUEST_TIMEOUT_MILLIS = 5000L;
 }
@@ -0,0 +1,11 @@
+package com.dreamsportslabs.guardian.jwtVerifier.exception;
+
+public class RevocationMirrorException extends RuntimeException {
+  public RevocationMirrorException(String message) {
+    super(message == null ? "Failed to sync revocations" : message);
+  }
+
+  public RevocationMirrorException(String message, Throwable cause) {
+    super(message == null ? "Failed to sync revocations" : message, cause);
+  }
+}
@@ -1,39 +1,31 @@
 package com.dreamsportslabs.guardian.registry;
 
-import java.util.HashMap;
+import java.util.Collection;
 import java.util.Map;
-import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.collections.keyvalue.MultiKey;
 
+/**
+ * Holds the latest {@link TenantSnapshot} of every loaded tenant. Snapshots are replaced atomically
+ * and looked up with a single map read on the tenant id.
+ */
 @Slf4j
 public class Registry {
-  private final Map<MultiKey, Object> classMap;
-
-  private static final String DEFAULT_NAME = "default";
+  private final Map<String, TenantSnapshot> snapshots;
 
   public Registry() {
-    this.classMap = new HashMap<>();
-  }
-
-  public <T> T get(String tenant, Class<T> clazz) {
-    return this.get(tenant, clazz, DEFAULT_NAME);
-  }
-
-  public <T> T get(String tenant, Class<T> clazz, String name) {
-    return (T) classMap.get(getKey(clazz, tenant, name));
+    this.snapshots = new ConcurrentHashMap<>();
   }
 
-  public <T> void put(String tenant, T object) {
-    this.put(tenant, object, DEFAULT_NAME);
+  public TenantSnapshot get(String tenant) {
+    return snapshots.get(tenant);
   }
 
-  public <T> void put(String tenant, T object, String name) {
-    Objects.requireNonNull(object);
-    classMap.put(getKey(object.getClass(), tenant, name), object);
+  public Collection<TenantSnapshot> getAll() {
+    return snapshots.values();
   }
 
-  private MultiKey getKey(Class<?> clazz, String tenant, String name) {
-    return new MultiKey(tenant, clazz.getName(), name);
+  public void put(TenantSnapshot snapshot) {
+    snapshots.put(snapshot.getTenantId(), snapshot);
   }
 }
@@ -5,29 +5,57 @@ import com.dreamsportslabs.guardian.config.tenant.TenantConfig;
 import com.dreamsportslabs.guardian.config.tenant.TokenConfig;
 import com.dreamsportslabs.guardian.service.impl.idproviders.FacebookIdProvider;
 import com.dreamsportslabs.guardian.service.impl.idproviders.GoogleIdProvider;
+import com.dreamsportslabs.guardian.utils.SigningKeyUtils;
 import io.fusionauth.jwt.Signer;
-import io.fusionauth.jwt.rsa.RSASigner;
-import lombok.SneakyThrows;
+import io.fusionauth.jwt.Verifier;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 public class RegistryInit {
 
-  @SneakyThrows
   public static TenantConfig initializeRegistry(Registry registry, TenantConfig tenantConfig) {
-    String tenantId = tenantConfig.getTenantId();
-    registry.put(tenantId, tenantConfig);
-    registry.put(tenantId, getTokenSigner(tenantConfig.getTokenConfig()));
-    registry.put(tenantId, new FacebookIdProvider(tenantConfig.getFbConfig()));
-    registry.put(tenantId, new GoogleIdProvider(tenantConfig.getGoogleConfig()));
+    registry.put(
+        TenantSnapshot.builder()
+            .tenantId(tenantConfig.getTenantId())
+            .tenantConfig(tenantConfig)
+            .signer(getTokenSigner(tenantConfig.getTokenConfig()))
+            .tokenVerifierIndex(getTokenVerifierIndex(tenantConfig.getTokenConfig()))
+            .facebookIdProvider(new FacebookIdProvider(tenantConfig.getFbConfig()))
+            .googleIdProvider(GoogleIdProvider.getInstance(tenantConfig.getGoogleConfig()))
+            .build());
     return tenantConfig;
   }
 
   private static Signer getTokenSigner(TokenConfig config) {
     RsaKey currentKey = config.getRsaKeys().stream().filter(RsaKey::getCurrent).toList().get(0);
-    if ("RS512".equals(config.getAlgorithm())) {
-      return RSASigner.newSHA512Signer(currentKey.getPrivateKey(), currentKey.getKid());
-    } else if ("RS256".equals(config.getAlgorithm())) {
-      return RSASigner.newSHA256Signer(currentKey.getPrivateKey(), currentKey.getKid());
-    }
-    throw new Error("Invalid configuration, only RS256 and RS512 are supported");
+    return SigningKeyUtils.getSigner(
+        config.getAlgorithm(), currentKey.getPrivateKey(), currentKey.getKid());
+  }
+
+  private static TokenVerifierIndex getTokenVerifierIndex(TokenConfig config) {
+    Map<String, RsaKey> keysByKid =
+        config.getRsaKeys().stream()
+            .collect(
+                Collectors.toMap(
+                    RsaKey::getKid, key -> key, RegistryInit::pickDuplicateKey, HashMap::new));
+    Map<String, Verifier> verifiers =
+        keysByKid.entrySet().stream()
+            .collect(
+                Collectors.toUnmodifiableMap(
+                    Map.Entry::getKey,
+                    entry ->
+                        SigningKeyUtils.getVerifier(
+                            config.getAlgorithm(), entry.getValue().getPublicKey())));
+    return new TokenVerifierIndex(verifiers);
+  }
+
+  // Tokens carry only the kid, so a duplicate kid can verify with a single key. The current key is
+  // kept as it is the one new tokens are signed with
+  private static RsaKey pickDuplicateKey(RsaKey existing, RsaKey duplicate) {
+    log.warn("Duplicate kid {} in tenant signing keys, keeping one of them", existing.getKid());
+    return Boolean.TRUE.equals(duplicate.getCurrent()) ? duplicate : existing;
   }
 }
@@ -0,0 +1,25 @@
+package com.dreamsportslabs.guardian.registry;
+
+import com.dreamsportslabs.guardian.config.tenant.TenantConfig;
+import com.dreamsportslabs.guardian.service.impl.idproviders.FacebookIdProvider;
+import com.dreamsportslabs.guardian.service.impl.idproviders.GoogleIdProvider;
+import io.fusionauth.jwt.Signer;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Immutable set of objects built for one tenant from a single config load. A snapshot is published
+ * to the {@link Registry} as a whole, so readers never see entries from two different loads mixed
+ * together, and every entry is a plain field read once the snapshot is resolved.
+ */
+@Getter
+@Builder
+public final class TenantSnapshot {
+  @NonNull private final String tenantId;
+  @NonNull private final TenantConfig tenantConfig;
+  @NonNull private final Signer signer;
+  @NonNull private final TokenVerifierIndex tokenVerifierIndex;
+  @NonNull private final FacebookIdProvider facebookIdProvider;
+  @NonNull private final GoogleIdProvider googleIdProvider;
+}
@@ -0,0 +1,12 @@
+package com.dreamsportslabs.guardian.registry;
+
+import io.fusionauth.jwt.Verifier;
+import java.util.Map;
+
+/** Signature verifiers for a tenant's token keys, built once when the tenant is loaded. */
+public record TokenVerifierIndex(Map<String, Verifier> verifiers) {
+
+  public Verifier get(String kid) {
+    return verifiers.get(kid);
+  }
+}
@@ -2,6 +2,7 @@ package com.dreamsportslabs.guardian.rest;
 
 import static com.dreamsportslabs.guardian.constant.Constants.TENANT_ID;
 
+import com.dreamsportslabs.guardian.cache.CacheInvalidationBus;
 import com.dreamsportslabs.guardian.cache.TenantCache;
 import com.google.inject.Inject;
 import io.reactivex.rxjava3.core.Single;
@@ -21,6 +22,7 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor(onConstructor = @__({@Inject}))
 public class CaffeineCache {
   private final TenantCache tenantCache;
+  private final CacheInvalidationBus cacheInvalidationBus;
 
   @POST
   @Path("/clear")
@@ -30,8 +32,11 @@ public class CaffeineCache {
 
     tenantCache.invalidateCache(tenantId);
 
-    return Single.just(
-            Response.status(Response.Status.NO_CONTENT).entity("Cache invalidated").build())
+    return cacheInvalidationBus
+        .publish(tenantId)
+        .andThen(
+            Single.just(
+                Response.status(Response.Status.NO_CONTENT).entity("Cache invalidated").build()))
         .toCompletionStage();
   }
 }
@@ -2,6 +2,7 @@ package com.dreamsportslabs.guardian.rest;
 
 import static com.dreamsportslabs.guardian.constant.Constants.TENANT_ID;
 
+import com.dreamsportslabs.guardian.dto.request.RevocationDeltaRequestDto;
 import com.dreamsportslabs.guardian.dto.request.RevocationRequestDto;
 import com.dreamsportslabs.guardian.service.RevocationService;
 import com.google.inject.Inject;
@@ -10,7 +11,9 @@ import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
 import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
@@ -34,4 +37,49 @@ public class Revocations {
         .map(dto -> Response.ok(dto).build())
         .toCompletionStage();
   }
+
+  /**
+   * Same window as the revocation list, as a binary snapshot of sorted 128 bit rft ids or as a
+   * bloom filter over them, see RevocationSnapshotUtils for the layout.
+   */
+  @GET
+  @Path("/snapshot")
+  @Consumes(MediaType.WILDCARD)
+  @Produces(MediaType.APPLICATION_OCTET_STREAM)
+  public CompletionStage<Response> getRevocationsSnapshot(
+      @Context HttpHeaders headers,
+      @BeanParam RevocationRequestDto requestDto,
+      @QueryParam("format") String format) {
+    String tenantId = headers.getHeaderString(TENANT_ID);
+
+    return revocationService
+        .getRevocationsSnapshot(requestDto, format, tenantId)
+        .map(snapshot -> Response.ok(snapshot, MediaType.APPLICATION_OCTET_STREAM).build())
+        .toCompletionStage();
+  }
+
+  /**
+   * Incremental revocation feed. The ETag is the cursor of the response, so a poller that sends it
+   * back in If-None-Match gets a 304 when nothing has been revoked since.
+   */
+  @GET
+  @Path("/delta")
+  @Consumes(MediaType.WILDCARD)
+  @Produces(MediaType.APPLICATION_JSON)
+  public CompletionStage<Response> getRevocationsDelta(
+      @Context HttpHeaders headers, @BeanParam RevocationDeltaRequestDto requestDto) {
+    String tenantId = headers.getHeaderString(TENANT_ID);
+
+    return revocationService
+        .getRevocationsDelta(requestDto, tenantId)
+        .map(
+            dto -> {
+              EntityTag entityTag = new EntityTag(dto.getCursor());
+              if (dto.getRevocations().isEmpty() && requestDto.matchesEntityTag(dto.getCursor())) {
+                return Response.notModified(entityTag).build();
+              }
+              return Response.ok(dto).tag(entityTag).build();
+            })
+        .toCompletionStage();
+  }
 }
@@ -15,6 +15,8 @@ import static com.dreamsportslabs.guardian.utils.Utils.getCurrentTimeInSeconds;
 import static com.dreamsportslabs.guardian.utils.Utils.getRftId;
 import static com.dreamsportslabs.guardian.utils.Utils.shouldSetAccessTokenAdditionalClaims;
 
+import com.dreamsportslabs.guardian.cache.CacheInvalidationBus;
+import com.dreamsportslabs.guardian.cache.VerifiedTokenCache;
 import com.dreamsportslabs.guardian.config.tenant.AuthCodeConfig;
 import com.dreamsportslabs.guardian.config.tenant.TenantConfig;
 import com.dreamsportslabs.guardian.config.tenant.TokenConfig;
@@ -36,6 +38,7 @@ import com.dreamsportslabs.guardian.dto.response.RefreshTokenResponseDto;
 import com.dreamsportslabs.guardian.dto.response.TokenResponseDto;
 import com.dreamsportslabs.guardian.registry.Registry;
 import com.google.inject.Inject;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.reactivex.rxjava3.core.Completable;
 import io.reactivex.rxjava3.core.Single;
 import io.vertx.core.json.JsonObject;
@@ -55,14 +58,20 @@ import org.apache.commons.lang3.tuple.Pair;
 @Slf4j
 @RequiredArgsConstructor(onConstructor = @__({@Inject}))
 public class AuthorizationService {
+  private static final String METRIC_REVOCATION_FAILURES = "guardian.revocations.update.failures";
+  private static final String TAG_TENANT = "tenant";
+
   private final Registry registry;
   private final TokenIssuer tokenIssuer;
 
   private final RefreshTokenDao refreshTokenDao;
   private final CodeDao codeDao;
   private final RevocationDao revocationDao;
+  private final VerifiedTokenCache verifiedTokenCache;
+  private final CacheInvalidationBus cacheInvalidationBus;
   private final ClientService clientService;
   private final UserService userService;
+  private final MeterRegistry meterRegistry;
 
   public Single<Object> generate(
       JsonObject user,
@@ -106,25 +115,29 @@ public class AuthorizationService {
       MetaInfo metaInfo,
       String clientId,
       String tenantId) {
-    TenantConfig config = registry.get(tenantId, TenantConfig.class);
+    TenantConfig config = registry.get(tenantId).getTenantConfig();
     String refreshToken = tokenIssuer.generateRefreshToken();
     String ssoToken = tokenIssuer.generateSsoToken();
     long iat = getCurrentTimeInSeconds();
-    return Single.zip(
-            tokenIssuer.generateAccessToken(
-                refreshToken, iat, scopes, user, authMethods, clientId, tenantId, config),
-            tokenIssuer.generateIdToken(
-                iat,
-                null,
-                user,
-                config.getTokenConfig().getIdTokenClaims(),
-                clientId,
-                config.getTenantId()),
-            (accessToken, idToken) ->
+    return tokenIssuer
+        .signBundle(
+            tenantId,
+            List.of(
+                tokenIssuer.buildAccessToken(
+                    refreshToken, iat, scopes, user, authMethods, clientId, tenantId, config),
+                tokenIssuer.buildIdToken(
+                    iat,
+                    null,
+                    user,
+                    config.getTokenConfig().getIdTokenClaims(),
+                    clientId,
+                    config.getTenantId())))
+        .map(
+            tokens ->
                 new TokenResponseDto(
-                    accessToken,
+                    tokens.get(0),
                     refreshToken,
-                    idToken,
+                    tokens.get(1),
                     ssoToken,
                     TOKEN_TYPE,
                     config.getTokenConfig().getAccessTokenExpiry(),
@@ -215,7 +228,7 @@ public class AuthorizationService {
 
   public Single<RefreshTokenResponseDto> refreshTokens(
       V2RefreshTokenRequestDto dto, MultivaluedMap<String, String> headers, String tenantId) {
-    TenantConfig config = registry.get(tenantId, TenantConfig.class);
+    TenantConfig config = registry.get(tenantId).getTenantConfig();
     if (StringUtils.isBlank(dto.getRefreshToken())) {
       return Single.error(UNAUTHORIZED.getCustomException("Invalid refresh token"));
     }
@@ -269,7 +282,7 @@ public class AuthorizationService {
       MetaInfo metaInfo,
       String clientId,
       String tenantId) {
-    AuthCodeConfig config = registry.get(tenantId, TenantConfig.class).getAuthCodeConfig();
+    AuthCodeConfig config = registry.get(tenantId).getTenantConfig().getAuthCodeConfig();
     String code = RandomStringUtils.randomAlphanumeric(config.getLength());
     CodeModel codeModel =
         CodeModel.builder()
@@ -291,7 +304,7 @@ public class AuthorizationService {
   public Single<TokenResponseDto> codeTokenExchange(
       V1CodeTokenExchangeRequestDto dto, String tenantId) {
     return codeDao
-        .getCode(dto.getCode(), tenantId)
+        .consumeCode(dto.getCode(), tenantId)
         .switchIfEmpty(Single.error(INVALID_CODE.getException()))
         .flatMap(
             model ->
@@ -301,8 +314,7 @@ public class AuthorizationService {
                     model.getAuthMethods(),
                     model.getMetaInfo(),
                     model.getClientId(),
-                    tenantId))
-        .doOnSuccess(res -> codeDao.deleteCode(dto.getCode(), tenantId).subscribe());
+                    tenantId));
   }
 
   public Completable logout(V1LogoutRequestDto requestDto, String tenantId) {
@@ -417,62 +429,56 @@ public class AuthorizationService {
   }
 
   private void updateRevocations(List<String> refreshTokens, String tenantId) {
-    TokenConfig config = registry.get(tenantId, TenantConfig.class).getTokenConfig();
     List<String> expiredRefreshTokens = new ArrayList<>();
 
     for (String refreshToken : refreshTokens) {
       String rftId = getRftId(refreshToken);
       expiredRefreshTokens.add(rftId);
     }
-    long currentTimeStamp = getCurrentTimeInSeconds();
-
-    long accessTokenExpiry = config.getAccessTokenExpiry() * 60;
 
-    revocationDao.addExpiredRefreshTokensInSortedSet(
-        currentTimeStamp, expiredRefreshTokens, tenantId);
-
-    revocationDao.removeExpiredRefreshTokensFromSortedSet(
-        currentTimeStamp, accessTokenExpiry, tenantId);
+    revocationDao
+        .addRevocations(getCurrentTimeInSeconds(), expiredRefreshTokens, tenantId)
+        .doOnError(
+            err -> {
+              meterRegistry.counter(METRIC_REVOCATION_FAILURES, TAG_TENANT, tenantId).increment();
+              log.error("Failed to update revocations for tenant: {}", tenantId, err);
+            })
+        .onErrorComplete()
+        .andThen(cacheInvalidationBus.notifyRevocations(tenantId, expiredRefreshTokens))
+        .subscribe();
+    verifiedTokenCache.invalidateRefreshTokens(tenantId, expiredRefreshTokens);
   }
 
   public void revokeTokens(List<String> refreshTokens, String tenantId) {
     updateRevocations(refreshTokens, tenantId);
   }
 
-  protected NewCookie buildCookie(String name, String value, Integer maxAge, String tenantId) {
-    TenantConfig config = registry.get(tenantId, TenantConfig.class);
+  protected NewCookie buildCookie(String name, String value, Integer maxAge, TokenConfig config) {
     return new NewCookie.Builder(name)
         .value(value)
-        .path(config.getTokenConfig().getCookiePath())
+        .path(config.getCookiePath())
         .maxAge(maxAge)
-        .domain(config.getTokenConfig().getCookieDomain())
-        .sameSite(NewCookie.SameSite.valueOf(config.getTokenConfig().getCookieSameSite()))
-        .httpOnly(config.getTokenConfig().getCookieHttpOnly())
-        .secure(config.getTokenConfig().getCookieSecure())
+        .domain(config.getCookieDomain())
+        .sameSite(NewCookie.SameSite.valueOf(config.getCookieSameSite()))
+        .httpOnly(config.getCookieHttpOnly())
+        .secure(config.getCookieSecure())
         .build();
   }
 
   public NewCookie getAccessTokenCookie(String accessToken, String tenantId) {
+    TokenConfig config = registry.get(tenantId).getTenantConfig().getTokenConfig();
     return buildCookie(
-        ACCESS_TOKEN_COOKIE_NAME,
-        accessToken,
-        registry.get(tenantId, TenantConfig.class).getTokenConfig().getAccessTokenExpiry(),
-        tenantId);
+        ACCESS_TOKEN_COOKIE_NAME, accessToken, config.getAccessTokenExpiry(), config);
   }
 
   public NewCookie getRefreshTokenCookie(String refreshToken, String tenantId) {
+    TokenConfig config = registry.get(tenantId).getTenantConfig().getTokenConfig();
     return buildCookie(
-        REFRESH_TOKEN_COOKIE_NAME,
-        refreshToken,
-        registry.get(tenantId, TenantConfig.class).getTokenConfig().getRefreshTokenExpiry(),
-        tenantId);
+        REFRESH_TOKEN_COOKIE_NAME, refreshToken, config.getRefreshTokenExpiry(), config);
   }
 
   public NewCookie getSsoTokenCookie(String ssoToken, String tenantId) {
-    return buildCookie(
-        SSO_TOKEN_COOKIE_NAME,
-        ssoToken,
-        registry.get(tenantId, TenantConfig.class).getTokenConfig().getRefreshTokenExpiry(),
-        tenantId);
+    TokenConfig config = registry.get(tenantId).getTenantConfig().getTokenConfig();
+    return buildCookie(SSO_TOKEN_COOKIE_NAME, ssoToken, config.getRefreshTokenExpiry(), config);
   }
 }
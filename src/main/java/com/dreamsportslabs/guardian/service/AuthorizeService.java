@@ -52,7 +52,7 @@ public class AuthorizeService {
                           buildAuthorizeSessionModel(requestDto, client, allowedScopes))
                   .flatMap(
                       sessionModel -> {
-                        TenantConfig tenantConfig = registry.get(tenantId, TenantConfig.class);
+                        TenantConfig tenantConfig = registry.get(tenantId).getTenantConfig();
                         int authorizeTtl = tenantConfig.getOidcConfig().getAuthorizeTtl();
                         String loginPageUri = tenantConfig.getOidcConfig().getLoginPageUri();
                         return saveSession(loginChallenge, sessionModel, tenantId, authorizeTtl)
@@ -2,6 +2,8 @@ package com.dreamsportslabs.guardian.service;
 
 import static com.dreamsportslabs.guardian.exception.ErrorEnum.INVALID_REQUEST;
 
+import com.dreamsportslabs.guardian.cache.CacheInvalidationBus;
+import com.dreamsportslabs.guardian.cache.ClientCache;
 import com.dreamsportslabs.guardian.dao.ClientDao;
 import com.dreamsportslabs.guardian.dao.ClientScopeDao;
 import com.dreamsportslabs.guardian.dao.model.ClientScopeModel;
@@ -22,6 +24,8 @@ public class ClientScopeService {
   private final ClientScopeDao clientScopeDao;
   private final ScopeService scopeService;
   private final ClientDao clientDao;
+  private final ClientCache clientCache;
+  private final CacheInvalidationBus cacheInvalidationBus;
 
   public Completable createClientScope(
       String clientId, CreateClientScopeRequestDto requestDto, String tenantId) {
@@ -63,22 +67,25 @@ public class ClientScopeService {
                         .build();
                 clientScopeList.add(clientScopeModel);
               }
-              return clientScopeDao.createClientScope(clientScopeList);
+              return clientScopeDao
+                  .createClientScope(clientScopeList)
+                  .andThen(cacheInvalidationBus.invalidateClient(tenantId, clientId));
             });
   }
 
   public Single<List<ClientScopeModel>> getClientScopes(String clientId, String tenantId) {
-    return clientDao
-        .getClient(clientId, tenantId)
-        .switchIfEmpty(Single.error(INVALID_REQUEST.getCustomException("Client not found")))
-        .flatMap(client -> clientScopeDao.getClientScopes(clientId, tenantId));
+    return clientCache
+        .get(tenantId, clientId)
+        .map(ClientCache.CachedClient::scopes)
+        .switchIfEmpty(Single.error(INVALID_REQUEST.getCustomException("Client not found")));
   }
 
   public Completable deleteClientScope(String clientId, String scope, String tenantId) {
     return clientDao
         .getClient(clientId, tenantId)
         .switchIfEmpty(Single.error(INVALID_REQUEST.getCustomException("Client not found")))
-        .flatMapCompletable(exists -> clientScopeDao.deleteClientScope(tenantId, clientId, scope));
+        .flatMapCompletable(exists -> clientScopeDao.deleteClientScope(tenantId, clientId, scope))
+        .andThen(cacheInvalidationBus.invalidateClient(tenantId, clientId));
   }
 
   public Completable validateClientScopes(
@@ -4,6 +4,8 @@ import static com.dreamsportslabs.guardian.exception.ErrorEnum.CLIENT_NOT_FOUND;
 import static com.dreamsportslabs.guardian.exception.ErrorEnum.INVALID_CLIENT;
 import static com.dreamsportslabs.guardian.exception.ErrorEnum.INVALID_REQUEST;
 
+import com.dreamsportslabs.guardian.cache.CacheInvalidationBus;
+import com.dreamsportslabs.guardian.cache.ClientCache;
 import com.dreamsportslabs.guardian.constant.ClientType;
 import com.dreamsportslabs.guardian.dao.ClientDao;
 import com.dreamsportslabs.guardian.dao.model.ClientModel;
@@ -26,6 +28,8 @@ public class ClientService {
 
   private final ClientDao clientDao;
   private final ClientScopeService clientScopeService;
+  private final ClientCache clientCache;
+  private final CacheInvalidationBus cacheInvalidationBus;
 
   public Single<ClientModel> createClient(CreateClientRequestDto requestDto, String tenantId) {
     String clientId = RandomStringUtils.randomAlphanumeric(CLIENT_ID_LENGTH);
@@ -48,12 +52,17 @@ public class ClientService {
             .isDefault(requestDto.getIsDefault())
             .build();
 
-    return clientDao.createClient(clientModel);
+    return clientDao
+        .createClient(clientModel)
+        .flatMap(
+            client ->
+                cacheInvalidationBus.invalidateClient(tenantId, clientId).toSingleDefault(client));
   }
 
   public Single<ClientModel> getClient(String clientId, String tenantId) {
-    return clientDao
-        .getClient(clientId, tenantId)
+    return clientCache
+        .get(tenantId, clientId)
+        .map(ClientCache.CachedClient::client)
         .switchIfEmpty(Single.error(CLIENT_NOT_FOUND.getException()));
   }
 
@@ -66,6 +75,7 @@ public class ClientService {
       String clientId, UpdateClientRequestDto requestDto, String tenantId) {
     return clientDao
         .updateClient(requestDto, clientId, tenantId)
+        .andThen(cacheInvalidationBus.invalidateClient(tenantId, clientId))
         .andThen(getClient(clientId, tenantId));
   }
 
@@ -74,7 +84,8 @@ public class ClientService {
         .deleteClient(clientId, tenantId)
         .filter(deleted -> deleted)
         .switchIfEmpty(Single.error(INVALID_REQUEST.getCustomException("Client not found")))
-        .ignoreElement();
+        .ignoreElement()
+        .andThen(cacheInvalidationBus.invalidateClient(tenantId, clientId));
   }
 
   public Single<String> regenerateClientSecret(String clientId, String tenantId) {
@@ -87,6 +98,7 @@ public class ClientService {
               existingClient.setClientSecret(newSecret);
               return clientDao
                   .updateClientSecret(newSecret, clientId, tenantId)
+                  .andThen(cacheInvalidationBus.invalidateClient(tenantId, clientId))
                   .andThen(Single.just(newSecret));
             });
   }
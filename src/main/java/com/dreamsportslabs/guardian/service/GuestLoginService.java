@@ -30,7 +30,7 @@ public class GuestLoginService {
   private final AuthorizationService authorizationService;
 
   public Single<GuestLoginResponseDto> login(V1GuestLoginRequestDto requestDto, String tenantId) {
-    TenantConfig config = registry.get(tenantId, TenantConfig.class);
+    TenantConfig config = registry.get(tenantId).getTenantConfig();
     GuestConfig guestConfig = config.getGuestConfig();
 
     Boolean isEncrypted = guestConfig.getIsEncrypted();
@@ -48,7 +48,6 @@ import com.dreamsportslabs.guardian.dto.request.IdpConnectRequestDto;
 import com.dreamsportslabs.guardian.dto.request.v2.V2IdpConnectRequestDto;
 import com.dreamsportslabs.guardian.dto.response.IdpConnectResponseDto;
 import com.dreamsportslabs.guardian.exception.ErrorEnum;
-import com.dreamsportslabs.guardian.jwtVerifier.TokenVerifier;
 import com.dreamsportslabs.guardian.registry.Registry;
 import com.dreamsportslabs.guardian.utils.Utils;
 import com.google.inject.Inject;
@@ -78,11 +77,12 @@ public class IdpConnectService {
   private final UserFlowBlockService userFlowBlockService;
   private final ClientService clientService;
   private final DefaultClientScopesCache defaultClientScopesCache;
+  private final IdpTokenVerifierRegistry idpTokenVerifierRegistry;
 
   public Single<IdpConnectResponseDto> connect(
       V2IdpConnectRequestDto requestDto, MultivaluedMap<String, String> headers, String tenantId) {
 
-    TenantConfig tenantConfig = registry.get(tenantId, TenantConfig.class);
+    TenantConfig tenantConfig = registry.get(tenantId).getTenantConfig();
     String providerName = requestDto.getIdProvider();
     OidcProviderConfig oidcProviderConfig = tenantConfig.getOidcProviderConfig().get(providerName);
 
@@ -94,7 +94,7 @@ public class IdpConnectService {
 
     String userIdentifier = oidcProviderConfig.getUserIdentifier();
 
-    return verifyIdentifierAndGetProviderTokens(requestDto, oidcProviderConfig)
+    return verifyIdentifierAndGetProviderTokens(requestDto, oidcProviderConfig, tenantId)
         .map(
             idpTokens -> {
               Provider provider = createProviderFromTokens(idpTokens, providerName);
@@ -275,10 +275,7 @@ public class IdpConnectService {
             user -> {
               boolean userExists = user.getString(USERID) != null;
               boolean sendProviderDetails =
-                  registry
-                      .get(tenantId, TenantConfig.class)
-                      .getUserConfig()
-                      .getSendProviderDetails();
+                  registry.get(tenantId).getTenantConfig().getUserConfig().getSendProviderDetails();
 
               switch (flow) {
                 case SIGNIN:
@@ -328,11 +325,11 @@ public class IdpConnectService {
   }
 
   private Single<IdpCredentials> verifyIdentifierAndGetProviderTokens(
-      V2IdpConnectRequestDto requestDto, OidcProviderConfig oidcProviderConfig) {
+      V2IdpConnectRequestDto requestDto, OidcProviderConfig oidcProviderConfig, String tenantId) {
     IdentifierType identifierType = IdentifierType.fromString(requestDto.getIdentifierType());
     switch (identifierType) {
       case ID_TOKEN:
-        return verifyIdToken(requestDto, oidcProviderConfig);
+        return verifyIdToken(requestDto, oidcProviderConfig, tenantId);
       case CODE:
         return exchangeCodeForTokens(requestDto, oidcProviderConfig);
       default:
@@ -341,20 +338,19 @@ public class IdpConnectService {
   }
 
   private Single<IdpCredentials> verifyIdToken(
-      V2IdpConnectRequestDto requestDto, OidcProviderConfig oidcProviderConfig) {
-
-    try {
-      TokenVerifier tokenVerifier =
-          new TokenVerifier(oidcProviderConfig.getJwksUrl(), oidcProviderConfig.getIssuer());
-      Map<String, Object> claims =
-          tokenVerifier.verify(requestDto.getIdentifier(), oidcProviderConfig.getClientId());
-
-      verifyNonceClaim(requestDto, claims);
-      return Single.just(IdpCredentials.builder().idToken(requestDto.getIdentifier()).build());
+      V2IdpConnectRequestDto requestDto, OidcProviderConfig oidcProviderConfig, String tenantId) {
+    return idpTokenVerifierRegistry
+        .getVerifier(tenantId, oidcProviderConfig, requestDto.getIdentifier())
+        .map(
+            tokenVerifier -> {
+              Map<String, Object> claims =
+                  tokenVerifier.verify(
+                      requestDto.getIdentifier(), oidcProviderConfig.getClientId());
 
-    } catch (Exception e) {
-      throw INVALID_IDP_TOKEN.getException();
-    }
+              verifyNonceClaim(requestDto, claims);
+              return IdpCredentials.builder().idToken(requestDto.getIdentifier()).build();
+            })
+        .onErrorResumeNext(err -> Single.error(INVALID_IDP_TOKEN.getException()));
   }
 
   private void verifyNonceClaim(V2IdpConnectRequestDto requestDto, Map<String, Object> claims) {
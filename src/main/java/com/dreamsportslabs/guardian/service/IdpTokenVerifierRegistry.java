@@ -0,0 +1,142 @@
+package com.dreamsportslabs.guardian.service;
+
+import static com.dreamsportslabs.guardian.constant.Constants.APPLICATION_CONFIG;
+import static com.dreamsportslabs.guardian.constant.Constants.IDP_JWKS_REFRESH_INTERVAL;
+import static com.dreamsportslabs.guardian.constant.Constants.JWKS_KEYS;
+import static com.dreamsportslabs.guardian.constant.Constants.JWT_HEADERS_KID;
+import static com.dreamsportslabs.guardian.utils.Utils.decodeJwtHeaders;
+
+import com.dreamsportslabs.guardian.config.tenant.OidcProviderConfig;
+import com.dreamsportslabs.guardian.config.tenant.TenantConfig;
+import com.dreamsportslabs.guardian.jwtVerifier.TokenVerifier;
+import com.dreamsportslabs.guardian.utils.SharedDataUtils;
+import com.dreamsportslabs.guardian.utils.SigningKeyUtils;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import io.reactivex.rxjava3.core.Single;
+import io.vertx.core.json.JsonObject;
+import io.vertx.rxjava3.core.Vertx;
+import io.vertx.rxjava3.ext.web.client.WebClient;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps one long-lived {@link TokenVerifier} per tenant and OIDC provider. Provider keys are
+ * fetched with the shared WebClient and served stale while a background refresh is in flight, so id
+ * token verification never blocks on the provider's JWKS endpoint once the keys are warm.
+ */
+@Slf4j
+@Singleton
+public class IdpTokenVerifierRegistry {
+  private static final String KEY_SEPARATOR = "_";
+
+  private final WebClient webClient;
+  private final long refreshIntervalMillis;
+  private final Map<String, ProviderKeys> providers = new ConcurrentHashMap<>();
+
+  @Inject
+  public IdpTokenVerifierRegistry(Vertx vertx, WebClient webClient) {
+    JsonObject config =
+        SharedDataUtils.get(vertx.getDelegate(), JsonObject.class, APPLICATION_CONFIG);
+    this.webClient = webClient;
+    this.refreshIntervalMillis =
+        TimeUnit.SECONDS.toMillis(Long.parseLong(config.getString(IDP_JWKS_REFRESH_INTERVAL)));
+  }
+
+  /**
+   * Returns the verifier for the id token. A kid that is not in the current key set usually means
+   * the provider has rotated its keys, so the token then waits, without blocking, on the shared
+   * refresh of the keys instead of being rejected.
+   */
+  public Single<TokenVerifier> getVerifier(
+      String tenantId, OidcProviderConfig providerConfig, String idToken) {
+    return Single.defer(
+        () -> {
+          ProviderKeys providerKeys = getProviderKeys(tenantId, providerConfig);
+          String kid = (String) decodeJwtHeaders(idToken).get(JWT_HEADERS_KID);
+          if (providerKeys.keys.shouldRefreshFor(kid)) {
+            return providerKeys.keys.refresh().map(keys -> providerKeys.verifier);
+          }
+
+          if (providerKeys.keys.isStale()) {
+            providerKeys.keys.refreshInBackground();
+          }
+          return Single.just(providerKeys.verifier);
+        });
+  }
+
+  /** Fetches keys for every provider of the tenant and drops providers no longer present. */
+  public void warmUp(TenantConfig tenantConfig) {
+    String tenantId = tenantConfig.getTenantId();
+    Map<String, OidcProviderConfig> providerConfigs = tenantConfig.getOidcProviderConfig();
+    providers
+        .keySet()
+        .removeIf(
+            key ->
+                key.startsWith(tenantId + KEY_SEPARATOR)
+                    && (providerConfigs == null
+                        || !providerConfigs.containsKey(
+                            key.substring(tenantId.length() + KEY_SEPARATOR.length()))));
+
+    if (providerConfigs == null) {
+      return;
+    }
+    providerConfigs
+        .values()
+        .forEach(
+            providerConfig -> {
+              ProviderKeys providerKeys = getProviderKeys(tenantId, providerConfig);
+              if (!providerKeys.keys.isLoaded() || providerKeys.keys.isStale()) {
+                providerKeys.keys.refreshInBackground();
+              }
+            });
+  }
+
+  private ProviderKeys getProviderKeys(String tenantId, OidcProviderConfig providerConfig) {
+    return providers.compute(
+        tenantId + KEY_SEPARATOR + providerConfig.getProviderName(),
+        (key, existing) ->
+            existing != null && existing.matches(providerConfig)
+                ? existing
+                : new ProviderKeys(providerConfig.getJwksUrl(), providerConfig.getIssuer()));
+  }
+
+  private Single<JwksKeySet.Keys> fetchKeys(String jwksUrl) {
+    return webClient
+        .getAbs(jwksUrl)
+        .rxSend()
+        .map(
+            response -> {
+              if (response.statusCode() != 200) {
+                throw new IllegalStateException(
+                    "JWKS fetch from " + jwksUrl + " failed with status " + response.statusCode());
+              }
+              return new JwksKeySet.Keys(
+                  SigningKeyUtils.parsePublicKeys(
+                      response.bodyAsJsonObject().getJsonArray(JWKS_KEYS)),
+                  System.currentTimeMillis() + refreshIntervalMillis);
+            });
+  }
+
+  private class ProviderKeys {
+    private final String jwksUrl;
+    private final String issuer;
+    private final JwksKeySet keys;
+    private final TokenVerifier verifier;
+
+    ProviderKeys(String jwksUrl, String issuer) {
+      this.jwksUrl = jwksUrl;
+      this.issuer = issuer;
+      this.keys = new JwksKeySet(jwksUrl, () -> fetchKeys(jwksUrl));
+      this.verifier = new TokenVerifier(keys::get, issuer);
+    }
+
+    boolean matches(OidcProviderConfig providerConfig) {
+      return Objects.equals(jwksUrl, providerConfig.getJwksUrl())
+          && Objects.equals(issuer, providerConfig.getIssuer());
+    }
+  }
+}
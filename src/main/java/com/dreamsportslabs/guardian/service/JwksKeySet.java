@@ -0,0 +1,97 @@
+package com.dreamsportslabs.guardian.service;
+
+import io.reactivex.rxjava3.core.Single;
+import java.security.PublicKey;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Public keys fetched from a JWKS endpoint. Concurrent refreshes share a single fetch, and the
+ * endpoint is asked at most once per minimum interval unless a refresh is already in flight, so
+ * expired keys and tokens with made up kids cannot hammer the provider.
+ */
+@Slf4j
+public class JwksKeySet {
+  private static final long MIN_REFRESH_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(30);
+
+  private final String source;
+  private final Supplier<Single<Keys>> fetcher;
+  private final AtomicReference<Keys> keys = new AtomicReference<>();
+  private final AtomicReference<Single<Keys>> inFlight = new AtomicReference<>();
+  private volatile long lastAttemptAt;
+
+  public JwksKeySet(String source, Supplier<Single<Keys>> fetcher) {
+    this.source = source;
+    this.fetcher = fetcher;
+  }
+
+  public PublicKey get(String kid) {
+    Keys current = keys.get();
+    return current == null ? null : current.keys().get(kid);
+  }
+
+  public boolean isLoaded() {
+    return keys.get() != null;
+  }
+
+  public boolean isStale() {
+    Keys current = keys.get();
+    long now = System.currentTimeMillis();
+    return current != null
+        && now >= current.expiresAt()
+        && now - lastAttemptAt > MIN_REFRESH_INTERVAL_MILLIS;
+  }
+
+  /**
+   * Whether a token with the kid should wait on a refresh. A kid missing from loaded keys joins a
+   * refresh in flight, or starts one at most once per minimum interval.
+   */
+  public boolean shouldRefreshFor(String kid) {
+    Keys current = keys.get();
+    if (current == null) {
+      return true;
+    }
+    return kid != null
+        && !current.keys().containsKey(kid)
+        && (inFlight.get() != null
+            || System.currentTimeMillis() - lastAttemptAt > MIN_REFRESH_INTERVAL_MILLIS);
+  }
+
+  public void refreshInBackground() {
+    refresh()
+        .subscribe(fetched -> {}, err -> log.error("Failed to refresh JWKS from {}", source, err));
+  }
+
+  public Single<Keys> refresh() {
+    Single<Keys> existing = inFlight.get();
+    if (existing != null) {
+      return existing;
+    }
+
+    lastAttemptAt = System.currentTimeMillis();
+    AtomicReference<Single<Keys>> self = new AtomicReference<>();
+    Single<Keys> fetch =
+        Single.defer(fetcher::get)
+            .doOnSuccess(keys::set)
+            .doFinally(() -> inFlight.compareAndSet(self.get(), null))
+            .cache();
+    self.set(fetch);
+
+    if (!inFlight.compareAndSet(null, fetch)) {
+      Single<Keys> winner = inFlight.get();
+      return winner != null ? winner : fetch;
+    }
+    return fetch;
+  }
+
+  /** Keys from one fetch, served as fresh until {@code expiresAt}. */
+  public record Keys(Map<String, PublicKey> keys, long expiresAt) {
+    public Optional<PublicKey> find(String kid) {
+      return Optional.ofNullable(keys.get(kid));
+    }
+  }
+}
@@ -2,8 +2,7 @@ package com.dreamsportslabs.guardian.service;
 
 import com.dreamsportslabs.guardian.cache.TenantCache;
 import com.dreamsportslabs.guardian.config.tenant.TokenConfig;
-import io.fusionauth.jwks.domain.JSONWebKey;
-import io.fusionauth.jwt.domain.Algorithm;
+import com.dreamsportslabs.guardian.utils.SigningKeyUtils;
 import io.reactivex.rxjava3.core.Single;
 import io.vertx.core.json.JsonObject;
 import java.util.List;
@@ -24,15 +23,8 @@ public class JwksService {
               TokenConfig tokenConfig = tenantConfig.getTokenConfig();
               String alg = tokenConfig.getAlgorithm();
               return tokenConfig.getRsaKeys().stream()
-                  .map(key -> getKeysInJwksFormat(key.getPublicKey(), key.getKid(), alg))
+                  .map(key -> SigningKeyUtils.getPublicJwk(alg, key.getPublicKey(), key.getKid()))
                   .collect(Collectors.toList());
             });
   }
-
-  private JsonObject getKeysInJwksFormat(String publicKey, String kid, String alg) {
-    JSONWebKey jwk = JSONWebKey.build(publicKey);
-    jwk.kid = kid;
-    jwk.alg = Algorithm.valueOf(alg);
-    return new JsonObject(jwk.toJSON());
-  }
 }
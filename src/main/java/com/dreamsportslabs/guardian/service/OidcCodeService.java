@@ -3,7 +3,6 @@ package com.dreamsportslabs.guardian.service;
 import static com.dreamsportslabs.guardian.exception.OidcErrorEnum.INTERNAL_SERVER_ERROR;
 
 import com.dreamsportslabs.guardian.config.tenant.OidcConfig;
-import com.dreamsportslabs.guardian.config.tenant.TenantConfig;
 import com.dreamsportslabs.guardian.dao.OidcCodeDao;
 import com.dreamsportslabs.guardian.dao.model.OidcCodeModel;
 import com.dreamsportslabs.guardian.registry.Registry;
@@ -21,19 +20,15 @@ public class OidcCodeService {
   private final Registry registry;
 
   public Completable saveOidcCode(String code, OidcCodeModel oidcCodeModel, String tenantId) {
-    OidcConfig oidcConfig = registry.get(tenantId, TenantConfig.class).getOidcConfig();
+    OidcConfig oidcConfig = registry.get(tenantId).getTenantConfig().getOidcConfig();
     return oidcCodeDao.saveOidcCode(code, oidcCodeModel, tenantId, oidcConfig.getAuthorizeTtl());
   }
 
-  public Maybe<OidcCodeModel> getOidcCode(String code, String tenantId) {
+  public Maybe<OidcCodeModel> consumeOidcCode(String code, String tenantId) {
     return oidcCodeDao
-        .getOidcCode(code, tenantId)
+        .consumeOidcCode(code, tenantId)
         .onErrorResumeNext(
             err ->
                 Maybe.error(INTERNAL_SERVER_ERROR.getJsonCustomException(500, "code is invalid")));
   }
-
-  public Completable deleteOidcCode(String code, String tenantId) {
-    return oidcCodeDao.deleteOidcCode(code, tenantId);
-  }
 }
@@ -14,6 +14,7 @@ import static com.dreamsportslabs.guardian.exception.OidcErrorEnum.UNAUTHORIZED_
 import static com.dreamsportslabs.guardian.utils.Utils.getCurrentTimeInSeconds;
 import static com.dreamsportslabs.guardian.utils.Utils.shouldSetAccessTokenAdditionalClaims;
 
+import com.dreamsportslabs.guardian.cache.ScopeCatalogueCache;
 import com.dreamsportslabs.guardian.config.tenant.TenantConfig;
 import com.dreamsportslabs.guardian.config.tenant.TokenConfig;
 import com.dreamsportslabs.guardian.constant.AuthMethod;
@@ -24,11 +25,9 @@ import com.dreamsportslabs.guardian.dao.model.ClientModel;
 import com.dreamsportslabs.guardian.dao.model.ClientScopeModel;
 import com.dreamsportslabs.guardian.dao.model.OidcCodeModel;
 import com.dreamsportslabs.guardian.dao.model.RefreshTokenModel;
-import com.dreamsportslabs.guardian.dao.model.ScopeModel;
 import com.dreamsportslabs.guardian.dto.request.GenerateOidcTokenDto;
 import com.dreamsportslabs.guardian.dto.request.RevokeTokenRequestDto;
 import com.dreamsportslabs.guardian.dto.request.TokenRequestDto;
-import com.dreamsportslabs.guardian.dto.request.scope.GetScopeRequestDto;
 import com.dreamsportslabs.guardian.dto.response.OidcTokenResponseDto;
 import com.dreamsportslabs.guardian.registry.Registry;
 import com.dreamsportslabs.guardian.utils.Utils;
@@ -57,7 +56,7 @@ public class OidcTokenService {
   private final ClientService clientService;
   private final OidcCodeService oidcCodeService;
   private final ClientScopeService clientScopeService;
-  private final ScopeService scopeService;
+  private final ScopeCatalogueCache scopeCatalogueCache;
   private final UserService userService;
   private final TokenIssuer tokenIssuer;
   private final RefreshTokenDao refreshTokenDao;
@@ -107,11 +106,6 @@ public class OidcTokenService {
               return clientId;
             })
         .flatMap(clientId -> validateCode(requestDto, tenantId))
-        .flatMap(
-            oidcCodeModel ->
-                oidcCodeService
-                    .deleteOidcCode(requestDto.getCode(), tenantId)
-                    .toSingleDefault(oidcCodeModel))
         .flatMap(
             oidcCodeModel ->
                 userService
@@ -153,7 +147,7 @@ public class OidcTokenService {
       String tenantId,
       String authorizationHeader,
       MultivaluedMap<String, String> headers) {
-    TenantConfig tenantConfig = registry.get(tenantId, TenantConfig.class);
+    TenantConfig tenantConfig = registry.get(tenantId).getTenantConfig();
     return authenticateClient(requestDto, tenantId, authorizationHeader)
         .map(
             clientId -> {
@@ -222,7 +216,7 @@ public class OidcTokenService {
 
   private Single<OidcCodeModel> validateCode(TokenRequestDto requestDto, String tenantId) {
     return oidcCodeService
-        .getOidcCode(requestDto.getCode(), tenantId)
+        .consumeOidcCode(requestDto.getCode(), tenantId)
         .filter(oidcCodeModel -> oidcCodeModel.getClientId().equals(requestDto.getClientId()))
         .switchIfEmpty(Single.error(INVALID_GRANT.getJsonCustomException("code is invalid")))
         .filter(oidcCodeModel -> oidcCodeModel.getRedirectUri().equals(requestDto.getRedirectUri()))
@@ -282,49 +276,43 @@ public class OidcTokenService {
   private Single<OidcTokenResponseDto> generateOidcTokensForAuthorizationCodeFlow(
       GenerateOidcTokenDto generateOidcTokenDto) {
 
-    TenantConfig tenantConfig =
-        registry.get(generateOidcTokenDto.getTenantId(), TenantConfig.class);
+    TenantConfig tenantConfig = registry.get(generateOidcTokenDto.getTenantId()).getTenantConfig();
     TokenConfig tokenConfig = tenantConfig.getTokenConfig();
     String refreshToken = tokenIssuer.generateRefreshToken();
     generateOidcTokenDto.getUserResponse().put(USERID, generateOidcTokenDto.getUserId());
-    return scopeService
-        .getScopes(
-            generateOidcTokenDto.getTenantId(), createScopeRequest(generateOidcTokenDto.getScope()))
-        .map(
-            scopeModels ->
-                scopeModels.stream().map(ScopeModel::getClaims).flatMap(List::stream).toList())
+    return scopeCatalogueCache
+        .getClaims(
+            generateOidcTokenDto.getTenantId(),
+            Arrays.asList(generateOidcTokenDto.getScope().trim().split("\\s+")))
         .flatMap(
             claims ->
-                Single.zip(
-                    tokenIssuer.generateAccessToken(
-                        refreshToken,
-                        generateOidcTokenDto.getIat(),
-                        generateOidcTokenDto.getScope(),
-                        generateOidcTokenDto.getUserResponse(),
-                        generateOidcTokenDto.getAuthMethods(),
-                        generateOidcTokenDto.getClientId(),
-                        tenantConfig.getTenantId(),
-                        tenantConfig),
-                    tokenIssuer.generateIdToken(
-                        generateOidcTokenDto.getIat(),
-                        generateOidcTokenDto.getNonce(),
-                        generateOidcTokenDto.getUserResponse(),
-                        claims,
-                        generateOidcTokenDto.getClientId(),
-                        generateOidcTokenDto.getTenantId()),
-                    (accessToken, idToken) ->
-                        buildTokenResponse(
-                            accessToken,
-                            idToken,
+                tokenIssuer.signBundle(
+                    tenantConfig.getTenantId(),
+                    List.of(
+                        tokenIssuer.buildAccessToken(
                             refreshToken,
-                            tokenConfig.getAccessTokenExpiry(),
-                            String.join(" ", generateOidcTokenDto.getScope()))));
-  }
-
-  private GetScopeRequestDto createScopeRequest(String scope) {
-    GetScopeRequestDto scopeRequest = new GetScopeRequestDto();
-    scopeRequest.setNames(Arrays.asList(scope.trim().split("\\s+")));
-    return scopeRequest;
+                            generateOidcTokenDto.getIat(),
+                            generateOidcTokenDto.getScope(),
+                            generateOidcTokenDto.getUserResponse(),
+                            generateOidcTokenDto.getAuthMethods(),
+                            generateOidcTokenDto.getClientId(),
+                            tenantConfig.getTenantId(),
+                            tenantConfig),
+                        tokenIssuer.buildIdToken(
+                            generateOidcTokenDto.getIat(),
+                            generateOidcTokenDto.getNonce(),
+                            generateOidcTokenDto.getUserResponse(),
+                            claims,
+                            generateOidcTokenDto.getClientId(),
+                            generateOidcTokenDto.getTenantId()))))
+        .map(
+            tokens ->
+                buildTokenResponse(
+                    tokens.get(0),
+                    tokens.get(1),
+                    refreshToken,
+                    tokenConfig.getAccessTokenExpiry(),
+                    String.join(" ", generateOidcTokenDto.getScope())));
   }
 
   private OidcTokenResponseDto buildTokenResponse(
@@ -342,8 +330,7 @@ public class OidcTokenService {
   private Single<OidcTokenResponseDto> generateOidcTokensForClientCredentialsFlow(
       GenerateOidcTokenDto generateOidcTokenDto) {
 
-    TenantConfig tenantConfig =
-        registry.get(generateOidcTokenDto.getTenantId(), TenantConfig.class);
+    TenantConfig tenantConfig = registry.get(generateOidcTokenDto.getTenantId()).getTenantConfig();
     TokenConfig tokenConfig = tenantConfig.getTokenConfig();
 
     return tokenIssuer
@@ -369,8 +356,7 @@ public class OidcTokenService {
   private Single<OidcTokenResponseDto> generateOidcTokensForRefreshTokenFlow(
       GenerateOidcTokenDto generateOidcTokenDto, String refreshToken) {
 
-    TenantConfig tenantConfig =
-        registry.get(generateOidcTokenDto.getTenantId(), TenantConfig.class);
+    TenantConfig tenantConfig = registry.get(generateOidcTokenDto.getTenantId()).getTenantConfig();
 
     TokenConfig tokenConfig = tenantConfig.getTokenConfig();
     generateOidcTokenDto.getUserResponse().put(USERID, generateOidcTokenDto.getUserId());
@@ -475,8 +461,7 @@ public class OidcTokenService {
   private RefreshTokenModel getOidcRefreshTokenModel(
       OidcTokenResponseDto tokenResponseDto, GenerateOidcTokenDto generateOidcTokenDto) {
 
-    TenantConfig tenantConfig =
-        registry.get(generateOidcTokenDto.getTenantId(), TenantConfig.class);
+    TenantConfig tenantConfig = registry.get(generateOidcTokenDto.getTenantId()).getTenantConfig();
     TokenConfig tokenConfig = tenantConfig.getTokenConfig();
 
     return RefreshTokenModel.builder()
@@ -502,7 +487,7 @@ public class OidcTokenService {
     return INVALID_CLIENT
         .setHeaders(
             getFailedAuthenticationHeaders(
-                registry.get(tenantId, TenantConfig.class).getTokenConfig().getIssuer()))
+                registry.get(tenantId).getTenantConfig().getTokenConfig().getIssuer()))
         .getJsonException();
   }
 
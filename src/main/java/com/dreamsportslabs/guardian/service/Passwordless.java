@@ -127,7 +127,7 @@ public class Passwordless {
   }
 
   private void updateDefaultTemplate(V2PasswordlessInitRequestDto requestDto, String tenantId) {
-    TenantConfig tenantConfig = registry.get(tenantId, TenantConfig.class);
+    TenantConfig tenantConfig = registry.get(tenantId).getTenantConfig();
     for (Contact contact : requestDto.getContacts()) {
       OtpUtils.updateContactTemplate(
           tenantConfig.getSmsConfig(), tenantConfig.getEmailConfig(), contact);
@@ -164,7 +164,7 @@ public class Passwordless {
         .getUser(userFilters, headers, tenantId)
         .map(
             user -> {
-              OtpConfig config = registry.get(tenantId, TenantConfig.class).getOtpConfig();
+              OtpConfig config = registry.get(tenantId).getTenantConfig().getOtpConfig();
               Map<String, String> h = new HashMap<>();
               headers.forEach((key, val) -> h.put(key, val.get(0)));
               return PasswordlessModel.builder()
@@ -0,0 +1,94 @@
+package com.dreamsportslabs.guardian.service;
+
+import static com.dreamsportslabs.guardian.constant.Constants.APPLICATION_CONFIG;
+import static com.dreamsportslabs.guardian.constant.Constants.REVOCATIONS_COMPACTION_INTERVAL;
+import static com.dreamsportslabs.guardian.utils.Utils.getCurrentTimeInSeconds;
+
+import com.dreamsportslabs.guardian.dao.RevocationDao;
+import com.dreamsportslabs.guardian.registry.Registry;
+import com.dreamsportslabs.guardian.registry.TenantSnapshot;
+import com.dreamsportslabs.guardian.utils.SharedDataUtils;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.reactivex.rxjava3.core.Completable;
+import io.vertx.core.json.JsonObject;
+import io.vertx.rxjava3.core.Vertx;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Trims revocations older than the access token expiry of every loaded tenant once per interval, so
+ * that logouts only ever append. A Redis lock per tenant that expires with the interval makes sure
+ * only one node compacts a tenant in each interval.
+ */
+@Slf4j
+@Singleton
+public class RevocationCompactor {
+  private static final String METRIC_COMPACTIONS = "guardian.revocations.compactions";
+  private static final String METRIC_COMPACTION_FAILURES =
+      "guardian.revocations.compaction.failures";
+  private static final String TAG_TENANT = "tenant";
+
+  private final Vertx vertx;
+  private final Registry registry;
+  private final RevocationDao revocationDao;
+  private final MeterRegistry meterRegistry;
+  private final long intervalMillis;
+  private final String nodeId = UUID.randomUUID().toString();
+  private Long timerId;
+
+  @Inject
+  public RevocationCompactor(
+      Vertx vertx, Registry registry, RevocationDao revocationDao, MeterRegistry meterRegistry) {
+    JsonObject config =
+        SharedDataUtils.get(vertx.getDelegate(), JsonObject.class, APPLICATION_CONFIG);
+    this.vertx = vertx;
+    this.registry = registry;
+    this.revocationDao = revocationDao;
+    this.meterRegistry = meterRegistry;
+    this.intervalMillis =
+        TimeUnit.SECONDS.toMillis(
+            Long.parseLong(config.getString(REVOCATIONS_COMPACTION_INTERVAL)));
+  }
+
+  public void start() {
+    timerId = vertx.setPeriodic(intervalMillis, id -> registry.getAll().forEach(this::compact));
+    log.info("Scheduled revocation compaction every {} ms", intervalMillis);
+  }
+
+  public void stop() {
+    if (timerId != null) {
+      vertx.cancelTimer(timerId);
+      timerId = null;
+    }
+  }
+
+  private void compact(TenantSnapshot snapshot) {
+    String tenantId = snapshot.getTenantId();
+    long cutoff =
+        getCurrentTimeInSeconds()
+            - snapshot.getTenantConfig().getTokenConfig().getAccessTokenExpiry();
+
+    revocationDao
+        .acquireCompactionLock(tenantId, nodeId, intervalMillis)
+        .flatMapCompletable(
+            acquired ->
+                acquired
+                    ? revocationDao
+                        .trimRevocations(tenantId, cutoff)
+                        .doOnComplete(
+                            () ->
+                                meterRegistry
+                                    .counter(METRIC_COMPACTIONS, TAG_TENANT, tenantId)
+                                    .increment())
+                    : Completable.complete())
+        .subscribe(
+            () -> {},
+            err -> {
+              meterRegistry.counter(METRIC_COMPACTION_FAILURES, TAG_TENANT, tenantId).increment();
+              log.error("Failed to compact revocations for tenant: {}", tenantId, err);
+            });
+  }
+}
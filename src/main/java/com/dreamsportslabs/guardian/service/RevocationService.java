@@ -1,51 +1,164 @@
 package com.dreamsportslabs.guardian.service;
 
+import static com.dreamsportslabs.guardian.constant.Constants.APPLICATION_CONFIG;
+import static com.dreamsportslabs.guardian.constant.Constants.REVOCATIONS_BLOOM_FALSE_POSITIVE_RATE;
 import static com.dreamsportslabs.guardian.constant.Constants.REVOCATIONS_FLOOR_FACTOR;
-import static com.dreamsportslabs.guardian.constant.Constants.REVOCATIONS_KEY_SEPARATOR;
+import static com.dreamsportslabs.guardian.exception.ErrorEnum.INVALID_REQUEST;
+import static com.dreamsportslabs.guardian.utils.Utils.getCurrentTimeInSeconds;
 
 import com.dreamsportslabs.guardian.cache.RevocationsCache;
 import com.dreamsportslabs.guardian.config.tenant.TenantConfig;
+import com.dreamsportslabs.guardian.constant.RevocationsFormat;
+import com.dreamsportslabs.guardian.dao.RevocationDao;
+import com.dreamsportslabs.guardian.dao.model.RevocationsDeltaModel;
+import com.dreamsportslabs.guardian.dto.request.RevocationDeltaRequestDto;
 import com.dreamsportslabs.guardian.dto.request.RevocationRequestDto;
+import com.dreamsportslabs.guardian.dto.response.RevocationsDeltaResponseDto;
 import com.dreamsportslabs.guardian.dto.response.RevocationsResponseDto;
 import com.dreamsportslabs.guardian.registry.Registry;
+import com.dreamsportslabs.guardian.utils.RevocationSnapshotUtils;
+import com.dreamsportslabs.guardian.utils.SharedDataUtils;
 import com.google.inject.Inject;
 import io.reactivex.rxjava3.core.Single;
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.subjects.CompletableSubject;
+import io.vertx.core.json.JsonObject;
+import io.vertx.rxjava3.core.Vertx;
 import java.util.ArrayList;
-import lombok.RequiredArgsConstructor;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
-@RequiredArgsConstructor(onConstructor = @__({@Inject}))
 public class RevocationService {
   private final RevocationsCache revocationsCache;
+  private final RevocationDao revocationDao;
   private final Registry registry;
+  private final double bloomFalsePositiveRate;
+
+  @Inject
+  public RevocationService(
+      RevocationsCache revocationsCache,
+      RevocationDao revocationDao,
+      Registry registry,
+      Vertx vertx) {
+    JsonObject config =
+        SharedDataUtils.get(vertx.getDelegate(), JsonObject.class, APPLICATION_CONFIG);
+    this.revocationsCache = revocationsCache;
+    this.revocationDao = revocationDao;
+    this.registry = registry;
+    this.bloomFalsePositiveRate =
+        Double.parseDouble(config.getString(REVOCATIONS_BLOOM_FALSE_POSITIVE_RATE));
+  }
 
   public Single<RevocationsResponseDto> getRevocations(
       RevocationRequestDto requestDto, String tenantId) {
-    TenantConfig config = registry.get(tenantId, TenantConfig.class);
+    TenantConfig config = registry.get(tenantId).getTenantConfig();
 
     Integer accessTokenExpiry = config.getTokenConfig().getAccessTokenExpiry();
     requestDto.validate(accessTokenExpiry);
 
     Long fromEpoch = getFloorTimestamp(requestDto.getFromEpoch());
-    Long toEpoch = getFloorTimestamp(requestDto.getToEpoch());
+    Long toEpoch = getWindowEnd(requestDto.getToEpoch());
     if (fromEpoch.equals(toEpoch)) {
       return Single.just(
           new RevocationsResponseDto(new ArrayList<>(), fromEpoch, toEpoch, accessTokenExpiry));
     }
     return revocationsCache
-        .getRevocationList(getRevocationKey(tenantId, fromEpoch, toEpoch))
+        .getRevocationList(tenantId, fromEpoch, toEpoch)
         .map(
             revocations ->
                 new RevocationsResponseDto(revocations, fromEpoch, toEpoch, accessTokenExpiry));
   }
 
-  private String getRevocationKey(String tenantId, Long fromTimestamp, Long toTimestamp) {
-    return tenantId
-        + REVOCATIONS_KEY_SEPARATOR
-        + fromTimestamp
-        + REVOCATIONS_KEY_SEPARATOR
-        + toTimestamp;
+  /** Returns the same window as getRevocations, encoded as a binary snapshot in the format. */
+  public Single<byte[]> getRevocationsSnapshot(
+      RevocationRequestDto requestDto, String format, String tenantId) {
+    RevocationsFormat revocationsFormat =
+        format == null ? RevocationsFormat.SET : RevocationsFormat.fromValue(format);
+    if (revocationsFormat == null) {
+      throw INVALID_REQUEST.getCustomException("Invalid format");
+    }
+
+    Integer accessTokenExpiry =
+        registry.get(tenantId).getTenantConfig().getTokenConfig().getAccessTokenExpiry();
+    requestDto.validate(accessTokenExpiry);
+
+    Long fromEpoch = getFloorTimestamp(requestDto.getFromEpoch());
+    Long toEpoch = getWindowEnd(requestDto.getToEpoch());
+    if (fromEpoch.equals(toEpoch)) {
+      return Single.fromCallable(
+          () ->
+              RevocationSnapshotUtils.encode(
+                  List.of(),
+                  revocationsFormat,
+                  fromEpoch,
+                  toEpoch,
+                  accessTokenExpiry,
+                  bloomFalsePositiveRate));
+    }
+    return revocationsCache.getRevocationSnapshot(
+        tenantId,
+        fromEpoch,
+        toEpoch,
+        revocationsFormat.getValue(),
+        revocations ->
+            RevocationSnapshotUtils.encode(
+                revocations,
+                revocationsFormat,
+                fromEpoch,
+                toEpoch,
+                accessTokenExpiry,
+                bloomFalsePositiveRate));
+  }
+
+  /**
+   * Returns the revocations added after the cursor. When there are none and the caller asked to
+   * wait, the read is retried once revocations are added for the tenant or the wait elapses.
+   */
+  public Single<RevocationsDeltaResponseDto> getRevocationsDelta(
+      RevocationDeltaRequestDto requestDto, String tenantId) {
+    Integer accessTokenExpiry =
+        registry.get(tenantId).getTenantConfig().getTokenConfig().getAccessTokenExpiry();
+    requestDto.validate();
+
+    // Entries older than the access token expiry are trimmed, so a first read starts there
+    String cursor =
+        requestDto.getCursor() != null
+            ? requestDto.getCursor()
+            : TimeUnit.SECONDS.toMillis(getCurrentTimeInSeconds() - accessTokenExpiry) + "-0";
+    Single<RevocationsDeltaModel> delta =
+        revocationDao.getRevocationsSince(tenantId, cursor, requestDto.getLimit());
+    if (requestDto.getWait() > 0) {
+      delta = awaitIfEmpty(tenantId, requestDto.getWait(), delta);
+    }
+    return delta.map(
+        model ->
+            new RevocationsDeltaResponseDto(
+                model.getRevocations(), model.getLastEntryId(), accessTokenExpiry));
+  }
+
+  // Listens before the first read, so revocations added while it runs still end the wait
+  private Single<RevocationsDeltaModel> awaitIfEmpty(
+      String tenantId, long waitSeconds, Single<RevocationsDeltaModel> delta) {
+    return Single.defer(
+        () -> {
+          CompletableSubject added = CompletableSubject.create();
+          Disposable listener =
+              revocationsCache
+                  .awaitRevocations(tenantId, waitSeconds)
+                  .subscribe(added::onComplete, added::onError);
+          return delta
+              .flatMap(
+                  model ->
+                      model.getRevocations().isEmpty() ? added.andThen(delta) : Single.just(model))
+              .doFinally(listener::dispose);
+        });
+  }
+
+  // Revocations can still land in the current second, so a window ends at the last complete one
+  private Long getWindowEnd(Long epochSeconds) {
+    return getFloorTimestamp(epochSeconds - 1);
   }
 
   private Long getFloorTimestamp(Long epochSeconds) {
@@ -1,13 +1,20 @@
 package com.dreamsportslabs.guardian.service;
 
+import static com.dreamsportslabs.guardian.constant.Constants.CURVE_P384;
+import static com.dreamsportslabs.guardian.constant.Constants.CURVE_P521;
 import static com.dreamsportslabs.guardian.constant.Constants.FORMAT_PEM;
+import static com.dreamsportslabs.guardian.constant.Constants.KEY_TYPE_EC;
+import static com.dreamsportslabs.guardian.constant.Constants.KEY_TYPE_OKP;
+import static com.dreamsportslabs.guardian.constant.Constants.KEY_TYPE_RSA;
 
 import com.dreamsportslabs.guardian.dto.request.GenerateRsaKeyRequestDto;
 import com.dreamsportslabs.guardian.dto.response.RsaKeyResponseDto;
+import com.dreamsportslabs.guardian.utils.SigningKeyUtils;
 import com.google.inject.Inject;
 import io.fusionauth.jwks.domain.JSONWebKey;
 import io.fusionauth.jwt.JWTUtils;
 import io.fusionauth.jwt.domain.KeyPair;
+import io.vertx.core.json.JsonObject;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -16,30 +23,66 @@ import lombok.extern.slf4j.Slf4j;
 public class RsaKeyPairGeneratorService {
 
   public RsaKeyResponseDto generateKey(GenerateRsaKeyRequestDto request) {
-    KeyPair keyPair = getRsaKeyPair(request.getKeySize());
+    if (KEY_TYPE_OKP.equals(request.getKeyType())) {
+      return generateEd25519Key(request);
+    }
+
+    KeyPair keyPair =
+        KEY_TYPE_EC.equals(request.getKeyType())
+            ? getEcKeyPair(request.getCurve())
+            : getRsaKeyPair(request.getKeySize());
 
     JSONWebKey publicJsonWebKey = JSONWebKey.build(keyPair.publicKey);
     JSONWebKey privateJsonWebKey = JSONWebKey.build(keyPair.privateKey);
+    boolean isRsa = KEY_TYPE_RSA.equals(request.getKeyType());
+    if (!isRsa) {
+      // The EC point is not derived correctly from a private key, so take it from the public key
+      privateJsonWebKey.x = publicJsonWebKey.x;
+      privateJsonWebKey.y = publicJsonWebKey.y;
+    }
+
+    String kid = JWTUtils.generateJWS_kid(publicJsonWebKey);
+
+    RsaKeyResponseDto.RsaKeyResponseDtoBuilder builder =
+        RsaKeyResponseDto.builder()
+            .kid(kid)
+            .keyType(request.getKeyType())
+            .keySize(isRsa ? request.getKeySize() : null)
+            .curve(isRsa ? null : request.getCurve());
+
+    if (request.getFormat().equalsIgnoreCase(FORMAT_PEM)) {
+      return builder.privateKey(keyPair.privateKey).publicKey(keyPair.publicKey).build();
+    } else {
+      return builder.privateKey(privateJsonWebKey).publicKey(publicJsonWebKey).build();
+    }
+  }
+
+  private RsaKeyResponseDto generateEd25519Key(GenerateRsaKeyRequestDto request) {
+    log.debug("Generating Ed25519 key pair");
+    KeyPair keyPair = SigningKeyUtils.generateEd25519KeyPair();
+    String kid = SigningKeyUtils.getEd25519Thumbprint(keyPair.publicKey);
 
-    String kid = JWTUtils.generateJWS_kid(privateJsonWebKey);
+    RsaKeyResponseDto.RsaKeyResponseDtoBuilder builder =
+        RsaKeyResponseDto.builder().kid(kid).keyType(KEY_TYPE_OKP).curve(request.getCurve());
 
     if (request.getFormat().equalsIgnoreCase(FORMAT_PEM)) {
-      return RsaKeyResponseDto.builder()
-          .kid(kid)
-          .privateKey(keyPair.privateKey)
-          .publicKey(keyPair.publicKey)
-          .keySize(request.getKeySize())
-          .build();
+      return builder.privateKey(keyPair.privateKey).publicKey(keyPair.publicKey).build();
     } else {
-      return RsaKeyResponseDto.builder()
-          .kid(kid)
-          .privateKey(privateJsonWebKey)
-          .publicKey(publicJsonWebKey)
-          .keySize(request.getKeySize())
-          .build();
+      JsonObject publicJwk = SigningKeyUtils.getEd25519Jwk(keyPair.publicKey, null);
+      JsonObject privateJwk = SigningKeyUtils.getEd25519Jwk(keyPair.publicKey, keyPair.privateKey);
+      return builder.privateKey(privateJwk.getMap()).publicKey(publicJwk.getMap()).build();
     }
   }
 
+  private KeyPair getEcKeyPair(String curve) {
+    log.debug("Generating EC key pair on curve {}", curve);
+    return switch (curve) {
+      case CURVE_P521 -> JWTUtils.generate521_ECKeyPair();
+      case CURVE_P384 -> JWTUtils.generate384_ECKeyPair();
+      default -> JWTUtils.generate256_ECKeyPair();
+    };
+  }
+
   private KeyPair getRsaKeyPair(Integer keySize) {
     return switch (keySize) {
       case 4096 -> {
@@ -3,6 +3,7 @@ package com.dreamsportslabs.guardian.service;
 import static com.dreamsportslabs.guardian.exception.ErrorEnum.INTERNAL_SERVER_ERROR;
 import static com.dreamsportslabs.guardian.exception.ErrorEnum.SCOPE_NOT_FOUND;
 
+import com.dreamsportslabs.guardian.cache.CacheInvalidationBus;
 import com.dreamsportslabs.guardian.dao.ScopeDao;
 import com.dreamsportslabs.guardian.dao.model.ScopeModel;
 import com.dreamsportslabs.guardian.dto.request.scope.CreateScopeRequestDto;
@@ -18,6 +19,7 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor(onConstructor = @__({@Inject}))
 public class ScopeService {
   private final ScopeDao scopeDao;
+  private final CacheInvalidationBus cacheInvalidationBus;
 
   public Single<List<ScopeModel>> getScopes(
       String tenantId, GetScopeRequestDto getScopeRequestDto) {
@@ -44,11 +46,16 @@ public class ScopeService {
             .isOidc(requestDto.getIsOidc())
             .build();
 
-    return scopeDao.saveScope(scopeModel);
+    return scopeDao
+        .saveScope(scopeModel)
+        .flatMap(scope -> cacheInvalidationBus.invalidateScopes(tenantId).toSingleDefault(scope));
   }
 
   public Single<Boolean> deleteScope(String tenantId, String name) {
-    return scopeDao.deleteScope(tenantId, name);
+    return scopeDao
+        .deleteScope(tenantId, name)
+        .flatMap(
+            deleted -> cacheInvalidationBus.invalidateScopes(tenantId).toSingleDefault(deleted));
   }
 
   public Single<ScopeModel> updateScope(
@@ -69,7 +76,8 @@ public class ScopeService {
                           }
                           return buildUpdatedScopeModel(
                               scopeModels.get(0), requestDto, tenantId, name);
-                        }));
+                        }))
+        .flatMap(scope -> cacheInvalidationBus.invalidateScopes(tenantId).toSingleDefault(scope));
   }
 
   private ScopeModel buildUpdatedScopeModel(
@@ -20,7 +20,6 @@ import static com.dreamsportslabs.guardian.exception.ErrorEnum.USER_EXISTS;
 import static com.dreamsportslabs.guardian.exception.ErrorEnum.USER_NOT_EXISTS;
 
 import com.dreamsportslabs.guardian.cache.DefaultClientScopesCache;
-import com.dreamsportslabs.guardian.config.tenant.TenantConfig;
 import com.dreamsportslabs.guardian.config.tenant.UserConfig;
 import com.dreamsportslabs.guardian.constant.AuthMethod;
 import com.dreamsportslabs.guardian.constant.BlockFlow;
@@ -33,8 +32,6 @@ import com.dreamsportslabs.guardian.dto.request.v1.V1AuthGoogleRequestDto;
 import com.dreamsportslabs.guardian.dto.request.v2.V2AuthFbRequestDto;
 import com.dreamsportslabs.guardian.dto.request.v2.V2AuthGoogleRequestDto;
 import com.dreamsportslabs.guardian.registry.Registry;
-import com.dreamsportslabs.guardian.service.impl.idproviders.FacebookIdProvider;
-import com.dreamsportslabs.guardian.service.impl.idproviders.GoogleIdProvider;
 import com.google.inject.Inject;
 import io.reactivex.rxjava3.core.Single;
 import io.vertx.core.json.JsonObject;
@@ -94,7 +91,8 @@ public class SocialAuthService {
   private Single<Object> authFb(
       V2AuthFbRequestDto dto, MultivaluedMap<String, String> headers, String tenantId) {
     return registry
-        .get(tenantId, FacebookIdProvider.class)
+        .get(tenantId)
+        .getFacebookIdProvider()
         .getUserIdentity(dto.getAccessToken())
         .flatMap(
             fbUserData -> {
@@ -136,7 +134,7 @@ public class SocialAuthService {
                 return userService.createUser(
                     getUserDtoFromFbUserData(fbUserData, dto.getAccessToken()), headers, tenantId);
               } else {
-                UserConfig userConfig = registry.get(tenantId, TenantConfig.class).getUserConfig();
+                UserConfig userConfig = registry.get(tenantId).getTenantConfig().getUserConfig();
                 if (userConfig.getSendProviderDetails()) {
                   return userService
                       .addProvider(
@@ -236,7 +234,8 @@ public class SocialAuthService {
       String clientId,
       String tenantId) {
     return registry
-        .get(tenantId, GoogleIdProvider.class)
+        .get(tenantId)
+        .getGoogleIdProvider()
         .getUserIdentity(idToken)
         .flatMap(
             googleUserData -> {
@@ -278,7 +277,7 @@ public class SocialAuthService {
                 return userService.createUser(
                     getUserDtoFromGoogleUserData(googleUserData, idToken), headers, tenantId);
               } else {
-                UserConfig userConfig = registry.get(tenantId, TenantConfig.class).getUserConfig();
+                UserConfig userConfig = registry.get(tenantId).getTenantConfig().getUserConfig();
                 if (userConfig.getSendProviderDetails()) {
                   return userService
                       .addProvider(
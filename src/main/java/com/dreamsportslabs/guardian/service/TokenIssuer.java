@@ -25,12 +25,12 @@ import com.dreamsportslabs.guardian.constant.AuthMethod;
 import com.dreamsportslabs.guardian.registry.Registry;
 import com.google.inject.Inject;
 import io.fusionauth.jwt.JWTEncoder;
+import io.fusionauth.jwt.Signer;
 import io.fusionauth.jwt.domain.JWT;
-import io.fusionauth.jwt.rsa.RSASigner;
 import io.reactivex.rxjava3.core.Single;
 import io.vertx.core.json.JsonObject;
-import io.vertx.rxjava3.core.Vertx;
-import java.util.HashMap;
+import jakarta.ws.rs.WebApplicationException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
@@ -40,18 +40,37 @@ import org.apache.commons.lang3.RandomStringUtils;
 @Slf4j
 @RequiredArgsConstructor(onConstructor = @__({@Inject}))
 public class TokenIssuer {
-  private final Vertx vertx;
+  private final TokenSigningExecutor signingExecutor;
   private final JWTEncoder encoder = JWT.getEncoder();
   private final Registry registry;
 
-  public Single<String> generateIdToken(
+  private static final Map<String, String> ID_TOKEN_HEADERS = Map.of();
+  private static final Map<String, String> ACCESS_TOKEN_HEADERS =
+      Map.of(JWT_HEADERS_TYP, TYP_JWT_ACCESS_TOKEN);
+
+  public Single<String> generateAccessToken(
+      String refreshToken,
+      long iat,
+      String scope,
+      JsonObject userResponse,
+      List<AuthMethod> authMethods,
+      String clientId,
+      String tenantId,
+      TenantConfig config) {
+    return signToken(
+        buildAccessToken(
+            refreshToken, iat, scope, userResponse, authMethods, clientId, tenantId, config),
+        tenantId);
+  }
+
+  public UnsignedToken buildIdToken(
       long iat,
       String nonce,
       JsonObject user,
       List<String> idTokenClaims,
       String clientId,
       String tenantId) {
-    TenantConfig tenantConfig = registry.get(tenantId, TenantConfig.class);
+    TenantConfig tenantConfig = registry.get(tenantId).getTenantConfig();
     JWT jwt = new JWT();
 
     jwt.addClaim(JWT_CLAIMS_AUD, clientId);
@@ -68,10 +87,10 @@ public class TokenIssuer {
         jwt.addClaim(claim, value);
       }
     }
-    return signToken(jwt, tenantId);
+    return new UnsignedToken(jwt, ID_TOKEN_HEADERS);
   }
 
-  public Single<String> generateAccessToken(
+  public UnsignedToken buildAccessToken(
       String refreshToken,
       long iat,
       String scope,
@@ -99,9 +118,26 @@ public class TokenIssuer {
           .forEach(claim -> jwt.addClaim(claim, userResponse.getValue(claim)));
     }
 
-    Map<String, String> tokenHeaders = new HashMap<>();
-    tokenHeaders.put(JWT_HEADERS_TYP, TYP_JWT_ACCESS_TOKEN);
-    return signToken(jwt, tenantId, tokenHeaders);
+    return new UnsignedToken(jwt, ACCESS_TOKEN_HEADERS);
+  }
+
+  /**
+   * Signs all the given tokens in a single dispatch to the signing executor. Encoded tokens are
+   * returned in the same order as the input.
+   */
+  public Single<List<String>> signBundle(String tenantId, List<UnsignedToken> tokens) {
+    return signingExecutor
+        .execute(
+            tenantId,
+            () -> {
+              Signer signer = registry.get(tenantId).getSigner();
+              List<String> encodedTokens = new ArrayList<>(tokens.size());
+              for (UnsignedToken token : tokens) {
+                encodedTokens.add(encode(token, signer));
+              }
+              return encodedTokens;
+            })
+        .onErrorResumeNext(this::mapSigningError);
   }
 
   public String generateRefreshToken() {
@@ -112,29 +148,30 @@ public class TokenIssuer {
     return RandomStringUtils.randomAlphanumeric(15);
   }
 
-  private Single<String> signToken(JWT jwt, String tenantId) {
-    return signToken(jwt, tenantId, new HashMap<>());
+  private Single<String> signToken(UnsignedToken token, String tenantId) {
+    return signingExecutor
+        .execute(tenantId, () -> encode(token, registry.get(tenantId).getSigner()))
+        .onErrorResumeNext(this::mapSigningError);
   }
 
-  private Single<String> signToken(JWT jwt, String tenantId, Map<String, String> headers) {
-    return vertx
-        .rxExecuteBlocking(
-            future -> {
-              RSASigner signer = registry.get(tenantId, RSASigner.class);
-              future.complete(
-                  encoder.encode(
-                      jwt,
-                      signer,
-                      header -> {
-                        for (Map.Entry<String, String> entry : headers.entrySet()) {
-                          header.set(entry.getKey(), entry.getValue());
-                        }
-                        header.set(JWT_HEADERS_KID, signer.getKid());
-                      }));
-            },
-            false)
-        .switchIfEmpty(Single.error(INTERNAL_SERVER_ERROR.getException()))
-        .onErrorResumeNext(err -> Single.error(INTERNAL_SERVER_ERROR.getException(err)))
-        .map(String.class::cast);
+  private String encode(UnsignedToken token, Signer signer) {
+    return encoder.encode(
+        token.jwt(),
+        signer,
+        header -> {
+          for (Map.Entry<String, String> entry : token.headers().entrySet()) {
+            header.set(entry.getKey(), entry.getValue());
+          }
+          header.set(JWT_HEADERS_KID, signer.getKid());
+        });
   }
+
+  private <T> Single<T> mapSigningError(Throwable err) {
+    if (err instanceof WebApplicationException) {
+      return Single.error(err);
+    }
+    return Single.error(INTERNAL_SERVER_ERROR.getException(err));
+  }
+
+  public record UnsignedToken(JWT jwt, Map<String, String> headers) {}
 }
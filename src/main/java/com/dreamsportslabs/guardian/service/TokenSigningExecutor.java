@@ -0,0 +1,112 @@
+package com.dreamsportslabs.guardian.service;
+
+import static com.dreamsportslabs.guardian.constant.Constants.APPLICATION_CONFIG;
+import static com.dreamsportslabs.guardian.constant.Constants.TOKEN_SIGNING_MAX_QUEUE_SIZE;
+import static com.dreamsportslabs.guardian.constant.Constants.TOKEN_SIGNING_POOL_SIZE;
+import static com.dreamsportslabs.guardian.exception.ErrorEnum.INTERNAL_SERVER_ERROR;
+import static com.dreamsportslabs.guardian.exception.ErrorEnum.SERVICE_UNAVAILABLE;
+
+import com.dreamsportslabs.guardian.utils.SharedDataUtils;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.reactivex.rxjava3.core.Single;
+import io.vertx.core.impl.cpu.CpuCoreSensor;
+import io.vertx.core.json.JsonObject;
+import io.vertx.rxjava3.core.Vertx;
+import io.vertx.rxjava3.core.WorkerExecutor;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs token signing on a dedicated worker pool sized to the number of cores, so that CPU bound
+ * signing neither competes with nor queues behind other blocking work on the default worker pool.
+ * Tasks are rejected with a 503 once the number of pending tasks crosses the configured limit.
+ * Queue depth is reported for the executor as a whole and in flight tasks per tenant. Tenant gauges
+ * are registered when the tenant config loads and removed when it is invalidated, so the tag set
+ * stays bounded by the loaded tenants.
+ */
+@Slf4j
+@Singleton
+public class TokenSigningExecutor {
+  private static final String EXECUTOR_NAME = "token-signing-pool";
+  private static final String METRIC_QUEUE_DEPTH = "guardian.token.signing.queue.depth";
+  private static final String METRIC_IN_FLIGHT = "guardian.token.signing.in.flight";
+  private static final String METRIC_REJECTED = "guardian.token.signing.rejected";
+  private static final String TAG_EXECUTOR = "executor";
+  private static final String TAG_TENANT = "tenant";
+
+  private final WorkerExecutor workerExecutor;
+  private final MeterRegistry meterRegistry;
+  private final int maxQueueSize;
+  private final AtomicInteger queueDepth = new AtomicInteger();
+  private final Map<String, TenantInFlight> tenantInFlight = new ConcurrentHashMap<>();
+
+  @Inject
+  public TokenSigningExecutor(Vertx vertx, MeterRegistry meterRegistry) {
+    JsonObject config =
+        SharedDataUtils.get(vertx.getDelegate(), JsonObject.class, APPLICATION_CONFIG);
+    int poolSize = Integer.parseInt(config.getString(TOKEN_SIGNING_POOL_SIZE));
+    if (poolSize <= 0) {
+      poolSize = CpuCoreSensor.availableProcessors();
+    }
+
+    this.maxQueueSize = Integer.parseInt(config.getString(TOKEN_SIGNING_MAX_QUEUE_SIZE));
+    this.meterRegistry = meterRegistry;
+    this.workerExecutor = vertx.createSharedWorkerExecutor(EXECUTOR_NAME, poolSize);
+    meterRegistry.gauge(METRIC_QUEUE_DEPTH, Tags.of(TAG_EXECUTOR, EXECUTOR_NAME), queueDepth);
+    log.info("Initialized token signing executor with pool size: {}", poolSize);
+  }
+
+  public <T> Single<T> execute(String tenantId, Supplier<T> task) {
+    return Single.defer(
+        () -> {
+          if (queueDepth.incrementAndGet() > maxQueueSize) {
+            queueDepth.decrementAndGet();
+            meterRegistry
+                .counter(METRIC_REJECTED, TAG_EXECUTOR, EXECUTOR_NAME, TAG_TENANT, tenantId)
+                .increment();
+            return Single.error(SERVICE_UNAVAILABLE.getException());
+          }
+
+          TenantInFlight tenant = tenantInFlight.get(tenantId);
+          AtomicInteger tenantDepth = tenant != null ? tenant.depth() : new AtomicInteger();
+          tenantDepth.incrementAndGet();
+          return workerExecutor
+              .<T>rxExecuteBlocking(promise -> promise.complete(task.get()), false)
+              .switchIfEmpty(Single.error(INTERNAL_SERVER_ERROR.getException()))
+              .doFinally(
+                  () -> {
+                    queueDepth.decrementAndGet();
+                    tenantDepth.decrementAndGet();
+                  });
+        });
+  }
+
+  public void registerTenant(String tenantId) {
+    tenantInFlight.computeIfAbsent(
+        tenantId,
+        tenant -> {
+          AtomicInteger depth = new AtomicInteger();
+          Gauge gauge =
+              Gauge.builder(METRIC_IN_FLIGHT, depth, AtomicInteger::get)
+                  .tags(TAG_EXECUTOR, EXECUTOR_NAME, TAG_TENANT, tenant)
+                  .register(meterRegistry);
+          return new TenantInFlight(depth, gauge);
+        });
+  }
+
+  public void removeTenant(String tenantId) {
+    TenantInFlight tenant = tenantInFlight.remove(tenantId);
+    if (tenant != null) {
+      meterRegistry.remove(tenant.gauge());
+    }
+  }
+
+  private record TenantInFlight(AtomicInteger depth, Gauge gauge) {}
+}
@@ -1,17 +1,18 @@
 package com.dreamsportslabs.guardian.service;
 
+import static com.dreamsportslabs.guardian.constant.Constants.JWT_CLAIMS_RFT_ID;
 import static com.dreamsportslabs.guardian.exception.OidcErrorEnum.INVALID_TOKEN;
 import static com.dreamsportslabs.guardian.utils.Utils.decodeJwtHeaders;
 
-import com.dreamsportslabs.guardian.config.tenant.RsaKey;
-import com.dreamsportslabs.guardian.config.tenant.TenantConfig;
+import com.dreamsportslabs.guardian.cache.VerifiedTokenCache;
+import com.dreamsportslabs.guardian.cache.VerifiedTokenCache.VerifiedToken;
 import com.dreamsportslabs.guardian.registry.Registry;
 import com.google.inject.Inject;
 import io.fusionauth.jwt.InvalidJWTSignatureException;
 import io.fusionauth.jwt.JWTDecoder;
 import io.fusionauth.jwt.JWTExpiredException;
+import io.fusionauth.jwt.Verifier;
 import io.fusionauth.jwt.domain.JWT;
-import io.fusionauth.jwt.rsa.RSAVerifier;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,9 +22,14 @@ import org.apache.commons.lang3.StringUtils;
 @RequiredArgsConstructor(onConstructor = @__({@Inject}))
 public class TokenVerifier {
   private final Registry registry;
+  private final VerifiedTokenCache verifiedTokenCache;
   private final JWTDecoder decoder = JWT.getDecoder();
 
   public Map<String, Object> verifyAccessToken(String accessToken, String tenantId) {
+    return verifiedTokenCache.get(tenantId, accessToken, () -> verify(accessToken, tenantId));
+  }
+
+  private VerifiedToken verify(String accessToken, String tenantId) {
 
     Map<String, Object> jwtHeaders = decodeJwtHeaders(accessToken);
 
@@ -37,17 +43,18 @@ public class TokenVerifier {
       throw INVALID_TOKEN.getBearerAuthHeaderException("Invalid token type");
     }
 
-    TenantConfig tenantConfig = registry.get(tenantId, TenantConfig.class);
-
-    RsaKey rsaKey =
-        tenantConfig.getTokenConfig().getRsaKeys().stream()
-            .filter(RsaKey -> kid.equals(RsaKey.getKid()))
-            .findFirst()
-            .orElseThrow(() -> new RuntimeException("No RSA key found"));
+    Verifier verifier = registry.get(tenantId).getTokenVerifierIndex().get(kid);
+    if (verifier == null) {
+      throw new RuntimeException("No RSA key found");
+    }
 
     try {
-      JWT jwt = decoder.decode(accessToken, RSAVerifier.newVerifier(rsaKey.getPublicKey()));
-      return jwt.getAllClaims();
+      JWT jwt = decoder.decode(accessToken, verifier);
+      return new VerifiedToken(
+          tenantId,
+          jwt.getString(JWT_CLAIMS_RFT_ID),
+          jwt.expiration.toEpochSecond(),
+          jwt.getAllClaims());
     } catch (InvalidJWTSignatureException e) {
       throw INVALID_TOKEN.getBearerAuthHeaderException("Token Signature is invalid");
     } catch (JWTExpiredException e) {
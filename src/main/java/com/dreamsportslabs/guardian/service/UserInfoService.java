@@ -5,15 +5,13 @@ import static com.dreamsportslabs.guardian.constant.Constants.USERID;
 import static com.dreamsportslabs.guardian.exception.ErrorEnum.INVALID_REQUEST;
 import static com.dreamsportslabs.guardian.exception.OidcErrorEnum.INVALID_TOKEN;
 
-import com.dreamsportslabs.guardian.dao.ScopeDao;
-import com.dreamsportslabs.guardian.dao.model.ScopeModel;
+import com.dreamsportslabs.guardian.cache.ScopeCatalogueCache;
 import com.dreamsportslabs.guardian.registry.Registry;
 import com.google.inject.Inject;
 import io.reactivex.rxjava3.core.Single;
 import io.vertx.core.json.JsonObject;
 import jakarta.ws.rs.core.MultivaluedMap;
 import java.util.*;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
@@ -24,7 +22,7 @@ public class UserInfoService {
   private final Registry registry;
   private final TokenVerifier tokenVerifier;
   private final UserService userService;
-  private final ScopeDao scopeDao;
+  private final ScopeCatalogueCache scopeCatalogueCache;
 
   public Single<JsonObject> getUserInfo(
       String accessToken, MultivaluedMap<String, String> headers, String tenantId) {
@@ -51,9 +49,8 @@ public class UserInfoService {
     }
     List<String> scopes = List.of(scope.split(" "));
 
-    return scopeDao
-        .getScopes(tenantId, scopes)
-        .map(this::extractClaimNamesFromScopeModels)
+    return scopeCatalogueCache
+        .getClaims(tenantId, scopes)
         .flatMap(
             claims ->
                 userService
@@ -61,14 +58,6 @@ public class UserInfoService {
                     .map(userData -> filterUserData(claims, userData).put(CLAIM_SUB, userId)));
   }
 
-  private List<String> extractClaimNamesFromScopeModels(List<ScopeModel> scopeModels) {
-    return scopeModels.stream()
-        .filter(scopeModel -> scopeModel.getClaims() != null)
-        .flatMap(scopeModel -> scopeModel.getClaims().stream())
-        .distinct()
-        .collect(Collectors.toList());
-  }
-
   public JsonObject filterUserData(List<String> scopedClaims, JsonObject userData) {
 
     return scopedClaims.stream()
@@ -7,7 +7,6 @@ import static com.dreamsportslabs.guardian.exception.ErrorEnum.INTERNAL_SERVER_E
 import static com.dreamsportslabs.guardian.exception.ErrorEnum.USER_SERVICE_ERROR;
 import static com.dreamsportslabs.guardian.exception.ErrorEnum.USER_SERVICE_ERROR_400;
 
-import com.dreamsportslabs.guardian.config.tenant.TenantConfig;
 import com.dreamsportslabs.guardian.config.tenant.UserConfig;
 import com.dreamsportslabs.guardian.dto.Provider;
 import com.dreamsportslabs.guardian.dto.UserDto;
@@ -34,7 +33,7 @@ public class UserService {
 
   public Single<JsonObject> getUser(
       Map<String, String> userFilters, MultivaluedMap<String, String> headers, String tenantId) {
-    UserConfig userConfig = registry.get(tenantId, TenantConfig.class).getUserConfig();
+    UserConfig userConfig = registry.get(tenantId).getTenantConfig().getUserConfig();
 
     HttpRequest<Buffer> request =
         webClient.get(userConfig.getPort(), userConfig.getHost(), userConfig.getGetUserPath());
@@ -61,7 +60,7 @@ public class UserService {
 
   public Single<JsonObject> createUser(
       UserDto dto, MultivaluedMap<String, String> headers, String tenantId) {
-    UserConfig userConfig = registry.get(tenantId, TenantConfig.class).getUserConfig();
+    UserConfig userConfig = registry.get(tenantId).getTenantConfig().getUserConfig();
     return webClient
         .post(userConfig.getPort(), userConfig.getHost(), userConfig.getCreateUserPath())
         .ssl(userConfig.getIsSslEnabled())
@@ -83,7 +82,7 @@ public class UserService {
 
   public Single<JsonObject> authenticate(
       UserDto dto, MultivaluedMap<String, String> headers, String tenantId) {
-    UserConfig userConfig = registry.get(tenantId, TenantConfig.class).getUserConfig();
+    UserConfig userConfig = registry.get(tenantId).getTenantConfig().getUserConfig();
     return webClient
         .post(userConfig.getPort(), userConfig.getHost(), userConfig.getAuthenticateUserPath())
         .ssl(userConfig.getIsSslEnabled())
@@ -104,7 +103,7 @@ public class UserService {
 
   public Completable addProvider(
       String userId, MultivaluedMap<String, String> headers, Provider provider, String tenantId) {
-    UserConfig userConfig = registry.get(tenantId, TenantConfig.class).getUserConfig();
+    UserConfig userConfig = registry.get(tenantId).getTenantConfig().getUserConfig();
     return webClient
         .post(userConfig.getPort(), userConfig.getHost(), userConfig.getAddProviderPath())
         .ssl(userConfig.getIsSslEnabled())
@@ -124,7 +123,7 @@ public class UserService {
 
   public Single<JsonObject> getOidcUser(
       Map<String, String> userFilters, MultivaluedMap<String, String> headers, String tenantId) {
-    UserConfig userConfig = registry.get(tenantId, TenantConfig.class).getUserConfig();
+    UserConfig userConfig = registry.get(tenantId).getTenantConfig().getUserConfig();
 
     HttpRequest<Buffer> request =
         webClient.get(userConfig.getPort(), userConfig.getHost(), userConfig.getGetUserPath());
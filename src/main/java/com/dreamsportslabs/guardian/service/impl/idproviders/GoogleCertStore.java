@@ -0,0 +1,84 @@
+package com.dreamsportslabs.guardian.service.impl.idproviders;
+
+import static com.dreamsportslabs.guardian.constant.Constants.JWKS_KEYS;
+
+import com.dreamsportslabs.guardian.service.JwksKeySet;
+import com.dreamsportslabs.guardian.utils.SigningKeyUtils;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import io.reactivex.rxjava3.core.Maybe;
+import io.reactivex.rxjava3.core.Single;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.rxjava3.ext.web.client.WebClient;
+import java.security.PublicKey;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Google's id token signing keys, shared by every tenant. Keys are fetched with the WebClient and
+ * kept for the max-age advertised in the response's Cache-Control header. Expired keys are still
+ * served while a single, throttled refresh is in flight.
+ */
+@Singleton
+public class GoogleCertStore {
+  private static final String GOOGLE_CERTS_HOST = "www.googleapis.com";
+  private static final String GOOGLE_CERTS_PATH = "/oauth2/v3/certs";
+  private static final Pattern MAX_AGE = Pattern.compile("max-age=(\\d+)");
+  private static final long DEFAULT_MAX_AGE_SECONDS = 3600;
+
+  private final WebClient webClient;
+  private final JwksKeySet keySet;
+
+  @Inject
+  public GoogleCertStore(WebClient webClient) {
+    this.webClient = webClient;
+    this.keySet = new JwksKeySet(GOOGLE_CERTS_HOST + GOOGLE_CERTS_PATH, this::fetchCerts);
+  }
+
+  public Maybe<PublicKey> getPublicKey(String kid) {
+    PublicKey publicKey = keySet.get(kid);
+    if (publicKey != null) {
+      if (keySet.isStale()) {
+        keySet.refreshInBackground();
+      }
+      return Maybe.just(publicKey);
+    }
+
+    // An unknown kid usually means Google has rotated keys, but don't let bad tokens hammer Google
+    if (!keySet.shouldRefreshFor(kid)) {
+      return Maybe.empty();
+    }
+    return keySet.refresh().flatMapMaybe(fetched -> Maybe.fromOptional(fetched.find(kid)));
+  }
+
+  private Single<JwksKeySet.Keys> fetchCerts() {
+    return webClient
+        .get(443, GOOGLE_CERTS_HOST, GOOGLE_CERTS_PATH)
+        .ssl(true)
+        .rxSend()
+        .map(
+            response -> {
+              if (response.statusCode() != 200) {
+                throw new IllegalStateException(
+                    "Google certs fetch failed with status " + response.statusCode());
+              }
+              long maxAgeSeconds =
+                  getMaxAge(response.getHeader(HttpHeaders.CACHE_CONTROL.toString()));
+              return new JwksKeySet.Keys(
+                  SigningKeyUtils.parsePublicKeys(
+                      response.bodyAsJsonObject().getJsonArray(JWKS_KEYS)),
+                  System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(maxAgeSeconds));
+            });
+  }
+
+  private long getMaxAge(String cacheControl) {
+    if (cacheControl != null) {
+      Matcher matcher = MAX_AGE.matcher(cacheControl);
+      if (matcher.find()) {
+        return Long.parseLong(matcher.group(1));
+      }
+    }
+    return DEFAULT_MAX_AGE_SECONDS;
+  }
+}
@@ -3,48 +3,93 @@ package com.dreamsportslabs.guardian.service.impl.idproviders;
 import static com.dreamsportslabs.guardian.exception.ErrorEnum.INVALID_REQUEST;
 
 import com.dreamsportslabs.guardian.config.tenant.GoogleConfig;
+import com.dreamsportslabs.guardian.injection.GuiceInjector;
 import com.dreamsportslabs.guardian.service.IdProvider;
-import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
-import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
-import com.google.api.client.googleapis.javanet.GoogleNetHttpTransport;
-import com.google.api.client.json.gson.GsonFactory;
+import com.dreamsportslabs.guardian.utils.Utils;
+import io.fusionauth.jwt.JWTDecoder;
+import io.fusionauth.jwt.domain.JWT;
+import io.fusionauth.jwt.rsa.RSAVerifier;
 import io.reactivex.rxjava3.core.Single;
 import io.vertx.core.json.JsonObject;
-import java.io.IOException;
-import java.security.GeneralSecurityException;
+import io.vertx.rxjava3.core.Vertx;
+import java.nio.charset.StandardCharsets;
+import java.security.PublicKey;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
 import java.util.Base64;
-import java.util.Collections;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public class GoogleIdProvider implements IdProvider {
-  private final GoogleIdTokenVerifier verifier;
-
-  public GoogleIdProvider(GoogleConfig config) throws GeneralSecurityException, IOException {
-    verifier =
-        new GoogleIdTokenVerifier.Builder(
-                GoogleNetHttpTransport.newTrustedTransport(), GsonFactory.getDefaultInstance())
-            .setAudience(Collections.singletonList(config.getClientId()))
-            .build();
+  private static final Set<String> GOOGLE_ISSUERS =
+      Set.of("accounts.google.com", "https://accounts.google.com");
+  private static final Map<String, GoogleIdProvider> PROVIDERS = new ConcurrentHashMap<>();
+  // Same tolerance for exp and iat as the Google API client's id token verifier
+  private static final int CLOCK_SKEW_SECONDS = 300;
+
+  private final String clientId;
+  private final GoogleCertStore certStore;
+  private final Vertx vertx;
+  private final JWTDecoder decoder = JWT.getDecoder().withClockSkew(CLOCK_SKEW_SECONDS);
+
+  private GoogleIdProvider(String clientId) {
+    this.clientId = clientId;
+    this.certStore = GuiceInjector.getGuiceInjector().getInstance(GoogleCertStore.class);
+    this.vertx = GuiceInjector.getGuiceInjector().getInstance(Vertx.class);
+  }
+
+  /** Providers hold no tenant state, so tenants sharing a Google client id share the instance. */
+  public static GoogleIdProvider getInstance(GoogleConfig config) {
+    return PROVIDERS.computeIfAbsent(
+        Objects.toString(config.getClientId(), ""), GoogleIdProvider::new);
   }
 
   @Override
   public Single<JsonObject> getUserIdentity(String idTokenString) {
-    GoogleIdToken idToken;
-
-    try {
-      idToken = verifier.verify(idTokenString);
-    } catch (Exception e) {
-      throw INVALID_REQUEST.getCustomException("Invalid id token");
-    }
+    return Single.fromCallable(() -> (String) Utils.decodeJwtHeaders(idTokenString).get("kid"))
+        .flatMap(
+            kid ->
+                certStore
+                    .getPublicKey(kid)
+                    .switchIfEmpty(
+                        Single.error(INVALID_REQUEST.getCustomException("Invalid id token"))))
+        .flatMap(
+            publicKey ->
+                vertx
+                    .<JsonObject>rxExecuteBlocking(
+                        promise -> promise.complete(verify(idTokenString, publicKey)), false)
+                    .toSingle())
+        .onErrorResumeNext(
+            err -> Single.error(INVALID_REQUEST.getCustomException("Invalid id token")));
+  }
 
-    if (idToken == null) {
+  private JsonObject verify(String idTokenString, PublicKey publicKey) {
+    JWT jwt = decoder.decode(idTokenString, RSAVerifier.newVerifier(publicKey));
+    if (!GOOGLE_ISSUERS.contains(jwt.issuer)
+        || !hasAudience(jwt.audience)
+        || isIssuedInFuture(jwt.issuedAt)) {
       throw INVALID_REQUEST.getCustomException("Invalid id token");
     }
 
     String[] parts = idTokenString.split("\\.");
-    String payloadJson = new String(Base64.getUrlDecoder().decode(parts[1]));
+    return new JsonObject(
+        new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8));
+  }
 
-    return Single.just(new JsonObject(payloadJson));
+  private boolean isIssuedInFuture(ZonedDateTime issuedAt) {
+    return issuedAt != null
+        && issuedAt.isAfter(ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(CLOCK_SKEW_SECONDS));
+  }
+
+  private boolean hasAudience(Object audience) {
+    if (audience instanceof Collection<?> audiences) {
+      return audiences.contains(clientId);
+    }
+    return clientId.equals(audience);
   }
 }
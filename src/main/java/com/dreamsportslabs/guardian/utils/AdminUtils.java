@@ -25,7 +25,7 @@ public class AdminUtils {
     String username = credentials[0];
     String password = credentials[1];
 
-    TenantConfig tenantConfig = registry.get(tenantId, TenantConfig.class);
+    TenantConfig tenantConfig = registry.get(tenantId).getTenantConfig();
     AdminConfig adminConfig = tenantConfig.getAdminConfig();
 
     if (adminConfig == null
@@ -62,6 +62,17 @@ public final class JsonUtils {
     return list;
   }
 
+  @SneakyThrows
+  public static <T> T readSnakeCaseValue(String json, Class<T> clazz) {
+    return snakeCaseObjectMapper.readValue(json, clazz);
+  }
+
+  @SneakyThrows
+  public static <T> List<T> readSnakeCaseList(String json, Class<T> clazz) {
+    return snakeCaseObjectMapper.readValue(
+        json, snakeCaseObjectMapper.getTypeFactory().constructCollectionType(List.class, clazz));
+  }
+
   public static String serializeToJsonString(Object obj, ObjectMapper objectMapper) {
     try {
       return objectMapper.writeValueAsString(obj);
@@ -0,0 +1,125 @@
+package com.dreamsportslabs.guardian.utils;
+
+import com.dreamsportslabs.guardian.constant.RevocationsFormat;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public final class RevocationSnapshotUtils {
+  private static final byte SNAPSHOT_VERSION = 2;
+  private static final int RFT_ID_LENGTH = 16;
+  private static final int HEADER_LENGTH = 26;
+  private static final int BLOOM_HEADER_LENGTH = 5;
+  private static final int MAX_BLOOM_HASH_FUNCTIONS = 255;
+
+  private RevocationSnapshotUtils() {
+    throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+  }
+
+  /**
+   * Encodes revocations as a binary snapshot. The 26 byte header holds the snapshot version, the
+   * format code, the from and to epochs, the access token expiry and the entry count, all big
+   * endian. It is followed either by the 128 bit rft ids sorted as unsigned bytes, so they can be
+   * binary searched, or by a bloom filter over the ids.
+   *
+   * <p>The bloom filter is a 1 byte hash function count k, a 4 byte word count w and w 64 bit words
+   * holding m = 64 * w bits, bit i being {@code (word[i / 64] >>> (i % 64)) & 1}. An id sets the
+   * bits {@code Long.remainderUnsigned(h1 + j * h2, m)} for j in [0, k), where h1 and h2 are its
+   * first and last 8 bytes read as big endian longs. The ids are MD5 digests, so the halves are
+   * already uniform and need no further hashing.
+   */
+  @SneakyThrows
+  public static byte[] encode(
+      List<String> revocations,
+      RevocationsFormat format,
+      long from,
+      long to,
+      int expiry,
+      double falsePositiveRate) {
+    List<byte[]> rftIds = parseRftIds(revocations);
+    ByteArrayOutputStream bytes =
+        new ByteArrayOutputStream(
+            format == RevocationsFormat.SET
+                ? HEADER_LENGTH + rftIds.size() * RFT_ID_LENGTH
+                : HEADER_LENGTH + BLOOM_HEADER_LENGTH);
+    DataOutputStream out = new DataOutputStream(bytes);
+    out.writeByte(SNAPSHOT_VERSION);
+    out.writeByte(format.getCode());
+    out.writeLong(from);
+    out.writeLong(to);
+    out.writeInt(expiry);
+    out.writeInt(rftIds.size());
+
+    if (format == RevocationsFormat.SET) {
+      rftIds.sort(Arrays::compareUnsigned);
+      for (byte[] rftId : rftIds) {
+        out.write(rftId);
+      }
+    } else {
+      writeBloomFilter(out, rftIds, falsePositiveRate);
+    }
+    out.flush();
+    return bytes.toByteArray();
+  }
+
+  private static void writeBloomFilter(
+      DataOutputStream out, List<byte[]> rftIds, double falsePositiveRate) throws IOException {
+    int expected = Math.max(rftIds.size(), 1);
+    long optimalBits =
+        (long) Math.ceil(-expected * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+    int words = (int) Math.max(1, (optimalBits + Long.SIZE - 1) / Long.SIZE);
+    long bits = (long) words * Long.SIZE;
+    int hashFunctions =
+        (int)
+            Math.min(
+                MAX_BLOOM_HASH_FUNCTIONS,
+                Math.max(1, Math.round((double) bits / expected * Math.log(2))));
+
+    long[] bitArray = new long[words];
+    for (byte[] rftId : rftIds) {
+      ByteBuffer buffer = ByteBuffer.wrap(rftId);
+      long h1 = buffer.getLong();
+      long h2 = buffer.getLong();
+      for (int i = 0; i < hashFunctions; i++) {
+        long bit = Long.remainderUnsigned(h1 + i * h2, bits);
+        bitArray[(int) (bit / Long.SIZE)] |= 1L << (bit % Long.SIZE);
+      }
+    }
+
+    out.writeByte(hashFunctions);
+    out.writeInt(words);
+    for (long word : bitArray) {
+      out.writeLong(word);
+    }
+  }
+
+  private static List<byte[]> parseRftIds(List<String> revocations) {
+    List<byte[]> rftIds = new ArrayList<>(revocations.size());
+    for (String revocation : revocations) {
+      byte[] rftId = parseRftId(revocation);
+      if (rftId == null) {
+        log.warn("Skipping revocation that is not a 128 bit rft id: {}", revocation);
+        continue;
+      }
+      rftIds.add(rftId);
+    }
+    return rftIds;
+  }
+
+  private static byte[] parseRftId(String revocation) {
+    try {
+      byte[] rftId = HexFormat.of().parseHex(revocation);
+      return rftId.length == RFT_ID_LENGTH ? rftId : null;
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+}
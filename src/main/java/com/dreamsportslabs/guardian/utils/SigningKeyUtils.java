@@ -0,0 +1,152 @@
+package com.dreamsportslabs.guardian.utils;
+
+import static com.dreamsportslabs.guardian.constant.Constants.ALGORITHM_ED25519;
+import static com.dreamsportslabs.guardian.constant.Constants.CURVE_ED25519;
+import static com.dreamsportslabs.guardian.constant.Constants.KEY_TYPE_OKP;
+
+import io.fusionauth.jwks.domain.JSONWebKey;
+import io.fusionauth.jwt.Signer;
+import io.fusionauth.jwt.Verifier;
+import io.fusionauth.jwt.domain.Algorithm;
+import io.fusionauth.jwt.domain.KeyPair;
+import io.fusionauth.jwt.ec.ECSigner;
+import io.fusionauth.jwt.ec.ECVerifier;
+import io.fusionauth.jwt.ed.EdDSASigner;
+import io.fusionauth.jwt.ed.EdDSAVerifier;
+import io.fusionauth.jwt.json.Mapper;
+import io.fusionauth.jwt.rsa.RSASigner;
+import io.fusionauth.jwt.rsa.RSAVerifier;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.PublicKey;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public final class SigningKeyUtils {
+  private static final int ED25519_KEY_LENGTH = 32;
+  private static final String PEM_PRIVATE_KEY = "PRIVATE KEY";
+  private static final String PEM_PUBLIC_KEY = "PUBLIC KEY";
+
+  private SigningKeyUtils() {
+    throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+  }
+
+  public static Signer getSigner(String algorithm, String privateKey, String kid) {
+    return switch (algorithm) {
+      case "RS256" -> RSASigner.newSHA256Signer(privateKey, kid);
+      case "RS384" -> RSASigner.newSHA384Signer(privateKey, kid);
+      case "RS512" -> RSASigner.newSHA512Signer(privateKey, kid);
+      case "ES256" -> ECSigner.newSHA256Signer(privateKey, kid);
+      case "ES384" -> ECSigner.newSHA384Signer(privateKey, kid);
+      case "ES512" -> ECSigner.newSHA512Signer(privateKey, kid);
+      case ALGORITHM_ED25519 -> EdDSASigner.newSigner(privateKey, kid);
+      default -> throw new Error(
+          "Invalid configuration, only RS256, RS384, RS512, ES256, ES384, ES512 and Ed25519 are"
+              + " supported");
+    };
+  }
+
+  public static Verifier getVerifier(String algorithm, String publicKey) {
+    if (algorithm.startsWith("RS")) {
+      return RSAVerifier.newVerifier(publicKey);
+    } else if (algorithm.startsWith("ES")) {
+      return ECVerifier.newVerifier(publicKey);
+    } else if (ALGORITHM_ED25519.equals(algorithm)) {
+      return EdDSAVerifier.newVerifier(publicKey.getBytes(StandardCharsets.UTF_8));
+    }
+    throw new Error("Invalid configuration, unsupported algorithm " + algorithm);
+  }
+
+  public static JsonObject getPublicJwk(String algorithm, String publicKey, String kid) {
+    if (ALGORITHM_ED25519.equals(algorithm)) {
+      return getEd25519Jwk(publicKey, null).put("kid", kid).put("alg", ALGORITHM_ED25519);
+    }
+
+    JSONWebKey jwk = JSONWebKey.build(publicKey);
+    jwk.kid = kid;
+    jwk.alg = Algorithm.valueOf(algorithm);
+    return new JsonObject(jwk.toJSON());
+  }
+
+  /** Parses the keys of a JWKS document by kid, skipping keys of unsupported types. */
+  public static Map<String, PublicKey> parsePublicKeys(JsonArray jwks) {
+    Map<String, PublicKey> keys = new HashMap<>();
+    for (int i = 0; i < jwks.size(); i++) {
+      JsonObject jwk = jwks.getJsonObject(i);
+      try {
+        JSONWebKey key = Mapper.deserialize(jwk.toBuffer().getBytes(), JSONWebKey.class);
+        keys.put(key.kid, JSONWebKey.parse(key));
+      } catch (Exception e) {
+        log.warn("Skipping unsupported JWK with kid {}", jwk.getString("kid"), e);
+      }
+    }
+    return Map.copyOf(keys);
+  }
+
+  @SneakyThrows
+  public static KeyPair generateEd25519KeyPair() {
+    java.security.KeyPair keyPair = KeyPairGenerator.getInstance(CURVE_ED25519).generateKeyPair();
+    return new KeyPair(
+        toPem(PEM_PRIVATE_KEY, keyPair.getPrivate().getEncoded()),
+        toPem(PEM_PUBLIC_KEY, keyPair.getPublic().getEncoded()));
+  }
+
+  /**
+   * Builds an OKP JWK (RFC 8037) from PEM encoded Ed25519 keys. The raw key is the trailing 32
+   * bytes of both the X.509 and the PKCS#8 encodings. The private key is optional.
+   */
+  public static JsonObject getEd25519Jwk(String publicKey, String privateKey) {
+    JsonObject jwk =
+        new JsonObject()
+            .put("kty", KEY_TYPE_OKP)
+            .put("crv", CURVE_ED25519)
+            .put("x", base64Url(getRawEd25519Key(publicKey)));
+    if (privateKey != null) {
+      jwk.put("d", base64Url(getRawEd25519Key(privateKey)));
+    }
+    return jwk;
+  }
+
+  /** RFC 7638 thumbprint of an OKP key, computed over its required members in lexical order. */
+  @SneakyThrows
+  public static String getEd25519Thumbprint(String publicKey) {
+    String canonical =
+        "{\"crv\":\""
+            + CURVE_ED25519
+            + "\",\"kty\":\""
+            + KEY_TYPE_OKP
+            + "\",\"x\":\""
+            + base64Url(getRawEd25519Key(publicKey))
+            + "\"}";
+    return base64Url(
+        MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  private static byte[] getRawEd25519Key(String pem) {
+    String body = pem.replaceAll("-----(BEGIN|END) [A-Z ]+-----", "").replaceAll("\\s", "");
+    byte[] der = Base64.getDecoder().decode(body);
+    return Arrays.copyOfRange(der, der.length - ED25519_KEY_LENGTH, der.length);
+  }
+
+  private static String toPem(String type, byte[] encoded) {
+    return "-----BEGIN "
+        + type
+        + "-----\n"
+        + Base64.getMimeEncoder(64, "\n".getBytes(StandardCharsets.UTF_8)).encodeToString(encoded)
+        + "\n-----END "
+        + type
+        + "-----";
+  }
+
+  private static String base64Url(byte[] bytes) {
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+  }
+}
@@ -6,6 +6,7 @@ import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import io.vertx.core.json.JsonObject;
 import io.vertx.rxjava3.sqlclient.Tuple;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.StringJoiner;
 import org.apache.commons.lang3.tuple.Pair;
@@ -41,6 +42,28 @@ public class SqlUtils {
     return Pair.of(insertSetFields.toString(), Tuple.wrap(values));
   }
 
+  /**
+   * Fills the IN-list of a query template with a power of two number of placeholders, so that a
+   * template only ever produces a handful of distinct statements for the prepared statement cache.
+   * Use with {@link #addInListValues} to pad the parameters to the same size.
+   */
+  public static String getInListQuery(String template, int size) {
+    return String.format(template, String.join(",", Collections.nCopies(getInListSize(size), "?")));
+  }
+
+  /** Pads the values by repeating the last one, or with a null that matches nothing when empty. */
+  public static Tuple addInListValues(Tuple tuple, List<String> values) {
+    int size = getInListSize(values.size());
+    for (int i = 0; i < size; i++) {
+      tuple.addString(values.isEmpty() ? null : values.get(Math.min(i, values.size() - 1)));
+    }
+    return tuple;
+  }
+
+  private static int getInListSize(int size) {
+    return size <= 1 ? 1 : Integer.highestOneBit(size - 1) << 1;
+  }
+
   public static String convertCamelToSnake(String camelCaseString) {
     PropertyNamingStrategies.SnakeCaseStrategy snakeCaseStrategy =
         new PropertyNamingStrategies.SnakeCaseStrategy();
@@ -9,15 +9,25 @@ import static com.dreamsportslabs.guardian.constant.Constants.HTTP_CONNECT_TIMEO
 import static com.dreamsportslabs.guardian.constant.Constants.HTTP_READ_TIMEOUT;
 import static com.dreamsportslabs.guardian.constant.Constants.HTTP_WRITE_TIMEOUT;
 import static com.dreamsportslabs.guardian.constant.Constants.PORT;
+import static com.dreamsportslabs.guardian.constant.Constants.REDIS_ENDPOINTS;
 import static com.dreamsportslabs.guardian.constant.Constants.REDIS_HOST;
+import static com.dreamsportslabs.guardian.constant.Constants.REDIS_MASTER_NAME;
+import static com.dreamsportslabs.guardian.constant.Constants.REDIS_MAX_POOL_SIZE;
+import static com.dreamsportslabs.guardian.constant.Constants.REDIS_MAX_POOL_WAITING;
+import static com.dreamsportslabs.guardian.constant.Constants.REDIS_MAX_WAITING_HANDLERS;
 import static com.dreamsportslabs.guardian.constant.Constants.REDIS_PORT;
+import static com.dreamsportslabs.guardian.constant.Constants.REDIS_READER;
 import static com.dreamsportslabs.guardian.constant.Constants.REDIS_TYPE;
+import static com.dreamsportslabs.guardian.constant.Constants.REDIS_USE_REPLICAS;
 import static com.dreamsportslabs.guardian.constant.Constants.TENANT_CONFIG_REFRESH_INTERVAL;
 
+import com.dreamsportslabs.guardian.cache.CacheInvalidationBus;
 import com.dreamsportslabs.guardian.cache.TenantCache;
 import com.dreamsportslabs.guardian.client.MysqlClient;
 import com.dreamsportslabs.guardian.client.impl.MysqlClientImpl;
+import com.dreamsportslabs.guardian.injection.GuiceInjector;
 import com.dreamsportslabs.guardian.registry.Registry;
+import com.dreamsportslabs.guardian.service.RevocationCompactor;
 import com.dreamsportslabs.guardian.utils.ConfigUtil;
 import com.dreamsportslabs.guardian.utils.SharedDataUtils;
 import io.reactivex.rxjava3.core.Completable;
@@ -28,15 +38,20 @@ import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.client.WebClientOptions;
 import io.vertx.redis.client.RedisClientType;
 import io.vertx.redis.client.RedisOptions;
+import io.vertx.redis.client.RedisReplicas;
+import io.vertx.redis.client.RedisRole;
 import io.vertx.rxjava3.core.AbstractVerticle;
 import io.vertx.rxjava3.ext.web.client.WebClient;
 import io.vertx.rxjava3.redis.client.Redis;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public class MainVerticle extends AbstractVerticle {
   private Redis redisClient;
+  private Redis redisReaderClient;
   private WebClient webClient;
   private MysqlClient mysqlClient;
   private JsonObject config;
@@ -59,6 +74,14 @@ public class MainVerticle extends AbstractVerticle {
                     vertx.getDelegate(),
                     TenantCache.getInstance(
                         Integer.parseInt(config.getString(TENANT_CONFIG_REFRESH_INTERVAL)))))
+        .andThen(
+            Completable.defer(
+                () ->
+                    GuiceInjector.getGuiceInjector()
+                        .getInstance(CacheInvalidationBus.class)
+                        .subscribe()))
+        .doOnComplete(
+            () -> GuiceInjector.getGuiceInjector().getInstance(RevocationCompactor.class).start())
         .andThen(
             vertx.rxDeployVerticle(
                 () ->
@@ -74,7 +97,12 @@ public class MainVerticle extends AbstractVerticle {
 
   @Override
   public Completable rxStop() {
+    GuiceInjector.getGuiceInjector().getInstance(RevocationCompactor.class).stop();
+    GuiceInjector.getGuiceInjector().getInstance(CacheInvalidationBus.class).stop();
     this.redisClient.close();
+    if (this.redisReaderClient != this.redisClient) {
+      this.redisReaderClient.close();
+    }
     this.webClient.close();
 
     return this.mysqlClient.rxClose();
@@ -95,20 +123,72 @@ public class MainVerticle extends AbstractVerticle {
   }
 
   private Completable initializeRedisClient(JsonObject config) {
-    RedisOptions redisOptions =
-        new RedisOptions()
-            .setConnectionString(
-                "redis://"
-                    + config.getString(REDIS_HOST)
-                    + ":"
-                    + config.getString(REDIS_PORT)
-                    + "/")
-            .setType(RedisClientType.valueOf(config.getString(REDIS_TYPE)));
+    RedisOptions redisOptions = getRedisOptions(config);
     this.redisClient = Redis.createClient(vertx, redisOptions);
+    this.redisReaderClient = createRedisReaderClient(config, redisOptions);
 
     SharedDataUtils.put(vertx.getDelegate(), this.redisClient);
+    SharedDataUtils.put(vertx.getDelegate(), this.redisReaderClient, REDIS_READER);
+
+    Completable connect = redisClient.rxConnect().ignoreElement();
+    return redisReaderClient == redisClient
+        ? connect
+        : connect.andThen(redisReaderClient.rxConnect().ignoreElement());
+  }
+
+  private RedisOptions getRedisOptions(JsonObject config) {
+    RedisOptions redisOptions =
+        new RedisOptions()
+            .setType(RedisClientType.valueOf(config.getString(REDIS_TYPE)))
+            .setEndpoints(getRedisEndpoints(config))
+            .setMasterName(config.getString(REDIS_MASTER_NAME))
+            .setRole(RedisRole.MASTER)
+            .setUseReplicas(RedisReplicas.NEVER)
+            .setMaxPoolSize(Integer.parseInt(config.getString(REDIS_MAX_POOL_SIZE)))
+            .setMaxPoolWaiting(Integer.parseInt(config.getString(REDIS_MAX_POOL_WAITING)))
+            .setMaxWaitingHandlers(Integer.parseInt(config.getString(REDIS_MAX_WAITING_HANDLERS)));
+    log.info(
+        "Initializing {} redis client with endpoints: {}",
+        redisOptions.getType(),
+        redisOptions.getEndpoints());
+    return redisOptions;
+  }
+
+  // Endpoints are a comma separated list of host:port pairs or redis:// connection strings
+  private List<String> getRedisEndpoints(JsonObject config) {
+    String endpoints = config.getString(REDIS_ENDPOINTS);
+    if (endpoints == null || endpoints.isBlank()) {
+      return List.of(
+          "redis://" + config.getString(REDIS_HOST) + ":" + config.getString(REDIS_PORT) + "/");
+    }
+
+    return Arrays.stream(endpoints.split(","))
+        .map(String::trim)
+        .filter(endpoint -> !endpoint.isEmpty())
+        .map(endpoint -> endpoint.contains("://") ? endpoint : "redis://" + endpoint + "/")
+        .toList();
+  }
 
-    return redisClient.rxConnect().ignoreElement();
+  /**
+   * Read-only DAO calls go through the reader client. When replica reads are enabled, the reader is
+   * a second client that routes read commands to replicas: through the replica role for sentinel
+   * and through read-only replica connections for cluster and replication setups. Reads use the
+   * writer client otherwise.
+   */
+  private Redis createRedisReaderClient(JsonObject config, RedisOptions writerOptions) {
+    RedisReplicas useReplicas = RedisReplicas.valueOf(config.getString(REDIS_USE_REPLICAS));
+    if (useReplicas == RedisReplicas.NEVER
+        || writerOptions.getType() == RedisClientType.STANDALONE) {
+      return this.redisClient;
+    }
+
+    RedisOptions readerOptions = new RedisOptions(writerOptions);
+    if (writerOptions.getType() == RedisClientType.SENTINEL) {
+      readerOptions.setRole(RedisRole.REPLICA);
+    } else {
+      readerOptions.setUseReplicas(useReplicas);
+    }
+    return Redis.createClient(vertx, readerOptions);
   }
 
   private Completable initializeWebClient(JsonObject config) {
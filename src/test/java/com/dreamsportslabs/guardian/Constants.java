@@ -45,6 +45,7 @@ public class Constants {
   public static final String BODY_PARAM_CONSENTED_SCOPES = "consented_scopes";
   public static final String BODY_PARAM_ACCESS_TOKEN = "access_token";
   public static final String BODY_PARAM_CLIENT_ID = "client_id";
+  public static final String BODY_PARAM_CODE = "code";
   public static final String BODY_PARAM_GUEST_IDENTIFIER = "guest_identifier";
   public static final String BODY_PARAM_SCOPES = "scopes";
 
@@ -184,6 +185,8 @@ public class Constants {
   public static final String METADATA = "metadata";
   public static final String ERROR_INCORRECT_OTP = "incorrect_otp";
   public static final String ERROR_INVALID_REQUEST = "invalid_request";
+  public static final String ERROR_INVALID_CODE = "invalid_code";
+  public static final String ERROR_MSG_INVALID_CODE = "Invalid code";
   public static final String INVALID_GUEST_IDENTIFIER = "invalid_guest_identifier";
   public static final String INVALID_SCOPE = "invalid_scope";
   public static final String ERROR_USER_NOT_EXISTS = "user_not_exists";
@@ -262,6 +265,31 @@ public class Constants {
   public static final String ERROR_MSG_INVALID_KEY_FORMAT =
       "Invalid key format. Allowed values are PEM or JWKS";
 
+  // EC and Ed25519 Key Generation
+  public static final String KEY_TYPE = "keyType";
+  public static final String KEY_CURVE = "curve";
+  public static final String KEY_TYPE_EC = "EC";
+  public static final String KEY_TYPE_OKP = "OKP";
+  public static final String KEY_TYPE_INVALID = "DSA";
+  public static final String CURVE_P256 = "P-256";
+  public static final String CURVE_P384 = "P-384";
+  public static final String CURVE_ED25519 = "Ed25519";
+  public static final String CURVE_INVALID = "P-192";
+  public static final String EC_ALGORITHM = "EC";
+  public static final String ED25519_ALGORITHM = "Ed25519";
+  public static final String JWK_CURVE = "crv";
+  public static final String JWK_X = "x";
+  public static final String JWK_Y = "y";
+  public static final String JWK_PRIVATE = "d";
+  public static final String JWK_ALGORITHM = "alg";
+  public static final int EC_P256_FIELD_SIZE = 256;
+  public static final String ERROR_MSG_INVALID_EC_CURVE =
+      "Invalid EC curve. Allowed values are [P-256, P-384, P-521]";
+  public static final String ERROR_MSG_INVALID_OKP_CURVE =
+      "Invalid OKP curve. Allowed values are [Ed25519]";
+  public static final String ERROR_MSG_INVALID_KEY_TYPE =
+      "Invalid key type. Allowed values are RSA, EC or OKP";
+
   public static final String ASSERT_PUBLIC_KEY_MODULUS_2048 =
       "Public key modulus should be 2048 bits";
   public static final String ASSERT_PRIVATE_KEY_MODULUS_2048 =
@@ -84,7 +84,7 @@ public class Setup
   }
 
   private void initializeRedisContainer() {
-    this.redisContainer = new RedisContainer("redis:6");
+    this.redisContainer = new RedisContainer("redis:6.2");
     this.redisContainer.setPortBindings(List.of(this.redisPort + ":6379"));
     this.redisContainer.start();
   }
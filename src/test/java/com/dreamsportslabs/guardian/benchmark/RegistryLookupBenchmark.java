@@ -0,0 +1,131 @@
+package com.dreamsportslabs.guardian.benchmark;
+
+import com.dreamsportslabs.guardian.config.tenant.FbConfig;
+import com.dreamsportslabs.guardian.config.tenant.GoogleConfig;
+import com.dreamsportslabs.guardian.config.tenant.TenantConfig;
+import com.dreamsportslabs.guardian.injection.GuiceInjector;
+import com.dreamsportslabs.guardian.registry.Registry;
+import com.dreamsportslabs.guardian.registry.TenantSnapshot;
+import com.dreamsportslabs.guardian.registry.TokenVerifierIndex;
+import com.dreamsportslabs.guardian.service.impl.idproviders.FacebookIdProvider;
+import com.dreamsportslabs.guardian.service.impl.idproviders.GoogleIdProvider;
+import com.dreamsportslabs.guardian.utils.SigningKeyUtils;
+import com.google.inject.AbstractModule;
+import io.fusionauth.jwt.JWTUtils;
+import io.fusionauth.jwt.Signer;
+import io.fusionauth.jwt.domain.KeyPair;
+import io.vertx.rxjava3.core.Vertx;
+import io.vertx.rxjava3.ext.web.client.WebClient;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.collections.keyvalue.MultiKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares resolving a tenant's config, signer and verifier index through the class-keyed {@code
+ * MultiKey} map the registry used to hold with a {@link TenantSnapshot} lookup followed by field
+ * reads. Run after {@code mvn test-compile} with
+ *
+ * <pre>
+ * java -cp target/test-classes:target/classes:$(mvn -q dependency:build-classpath \
+ *     -Dmdep.outputFile=/dev/stdout) org.openjdk.jmh.Main RegistryLookupBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RegistryLookupBenchmark {
+  private static final String DEFAULT_NAME = "default";
+  private static final String ALGORITHM = "RS256";
+
+  @Param({"10", "1000"})
+  private int tenants;
+
+  private Vertx vertx;
+  private Map<MultiKey, Object> classMap;
+  private Registry registry;
+  private String tenantId;
+
+  @Setup
+  public void setup() {
+    vertx = Vertx.vertx();
+    WebClient webClient = WebClient.create(vertx);
+    GuiceInjector.initialize(
+        List.of(
+            new AbstractModule() {
+              @Override
+              protected void configure() {
+                bind(Vertx.class).toInstance(vertx);
+                bind(WebClient.class).toInstance(webClient);
+              }
+            }));
+
+    KeyPair keyPair = JWTUtils.generate2048_RSAKeyPair();
+    classMap = new HashMap<>();
+    registry = new Registry();
+    for (int i = 0; i < tenants; i++) {
+      String tenant = "tenant" + i;
+      TenantConfig tenantConfig = TenantConfig.builder().tenantId(tenant).build();
+      Signer signer = SigningKeyUtils.getSigner(ALGORITHM, keyPair.privateKey, tenant);
+      TokenVerifierIndex tokenVerifierIndex =
+          new TokenVerifierIndex(
+              Map.of(tenant, SigningKeyUtils.getVerifier(ALGORITHM, keyPair.publicKey)));
+
+      classMap.put(key(TenantConfig.class, tenant), tenantConfig);
+      classMap.put(key(Signer.class, tenant), signer);
+      classMap.put(key(TokenVerifierIndex.class, tenant), tokenVerifierIndex);
+      registry.put(
+          TenantSnapshot.builder()
+              .tenantId(tenant)
+              .tenantConfig(tenantConfig)
+              .signer(signer)
+              .tokenVerifierIndex(tokenVerifierIndex)
+              .facebookIdProvider(new FacebookIdProvider(new FbConfig()))
+              .googleIdProvider(GoogleIdProvider.getInstance(new GoogleConfig()))
+              .build());
+    }
+    // A fresh string, as the tenant id read from a request header would be
+    tenantId = new String("tenant" + (tenants / 2));
+  }
+
+  @TearDown
+  public void tearDown() {
+    vertx.close().blockingAwait();
+  }
+
+  private static MultiKey key(Class<?> clazz, String tenant) {
+    return new MultiKey(tenant, clazz.getName(), DEFAULT_NAME);
+  }
+
+  @Benchmark
+  public void multiKeyLookup(Blackhole blackhole) {
+    blackhole.consume(classMap.get(key(TenantConfig.class, tenantId)));
+    blackhole.consume(classMap.get(key(Signer.class, tenantId)));
+    blackhole.consume(classMap.get(key(TokenVerifierIndex.class, tenantId)));
+  }
+
+  @Benchmark
+  public void snapshotFieldRead(Blackhole blackhole) {
+    TenantSnapshot snapshot = registry.get(tenantId);
+    blackhole.consume(snapshot.getTenantConfig());
+    blackhole.consume(snapshot.getSigner());
+    blackhole.consume(snapshot.getTokenVerifierIndex());
+  }
+}
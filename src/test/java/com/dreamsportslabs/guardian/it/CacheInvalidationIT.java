@@ -0,0 +1,163 @@
+package com.dreamsportslabs.guardian.it;
+
+import static com.dreamsportslabs.guardian.Constants.HEADER_TENANT_ID;
+import static com.dreamsportslabs.guardian.Constants.TENANT_1;
+import static com.dreamsportslabs.guardian.Constants.TENANT_2;
+import static com.dreamsportslabs.guardian.utils.ApplicationIoUtils.getClient;
+import static com.dreamsportslabs.guardian.utils.ApplicationIoUtils.getOidcDiscovery;
+import static com.dreamsportslabs.guardian.utils.ApplicationIoUtils.getRevocations;
+import static com.dreamsportslabs.guardian.utils.DbUtils.addFirstPartyClient;
+import static com.dreamsportslabs.guardian.utils.DbUtils.addOidcScope;
+import static com.dreamsportslabs.guardian.utils.DbUtils.deleteScope;
+import static com.dreamsportslabs.guardian.utils.DbUtils.publishCacheInvalidation;
+import static com.dreamsportslabs.guardian.utils.DbUtils.updateAccessTokenExpiry;
+import static com.dreamsportslabs.guardian.utils.DbUtils.updateClientName;
+import static com.dreamsportslabs.guardian.utils.PollUtils.pollUntil;
+import static org.apache.http.HttpStatus.SC_OK;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+
+import io.restassured.response.Response;
+import io.vertx.core.json.JsonObject;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Plays the part of another Guardian node: changes are written straight to the database, bypassing
+ * the local eviction, and announced on the invalidation channel the way that node would.
+ */
+public class CacheInvalidationIT {
+  private static final String tenant1 = TENANT_1;
+  private static final String tenant2 = TENANT_2;
+  // Well below the config refresh interval, so only the published invalidation can explain it
+  private static final long PROPAGATION_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(3);
+
+  private static String getClientName(String clientId) {
+    Response response = getClient(tenant1, clientId);
+    response.then().statusCode(SC_OK);
+    return response.jsonPath().getString("client_name");
+  }
+
+  private static Integer getAccessTokenExpiry() {
+    Response response = getRevocations(tenant2, new HashMap<>());
+    response.then().statusCode(SC_OK);
+    return response.jsonPath().getInt("expiry");
+  }
+
+  private static List<String> getScopesSupported() {
+    Map<String, String> headers = new HashMap<>();
+    headers.put(HEADER_TENANT_ID, tenant1);
+    Response response = getOidcDiscovery(headers, new HashMap<>());
+    response.then().statusCode(SC_OK);
+    return response.jsonPath().getList("scopes_supported", String.class);
+  }
+
+  @Test
+  @DisplayName("Should evict a client changed on another node once it is published")
+  void clientInvalidationFromAnotherNode() {
+    // Arrange
+    String clientId = addFirstPartyClient(tenant1);
+    String clientName = getClientName(clientId);
+    String updatedName = RandomStringUtils.randomAlphanumeric(10);
+    updateClientName(tenant1, clientId, updatedName);
+
+    // Act
+    String staleName = getClientName(clientId);
+    publishCacheInvalidation(
+        new JsonObject()
+            .put("target", "client")
+            .put("tenantId", tenant1)
+            .put("clientId", clientId));
+
+    // Assert
+    assertThat(staleName, equalTo(clientName));
+    assertThat(
+        pollUntil(() -> getClientName(clientId), updatedName::equals, PROPAGATION_TIMEOUT_MILLIS),
+        equalTo(updatedName));
+  }
+
+  @Test
+  @DisplayName("Should reload a tenant config changed on another node once it is published")
+  void tenantInvalidationFromAnotherNode() {
+    // Arrange
+    int accessTokenExpiry = getAccessTokenExpiry();
+    int updatedExpiry = accessTokenExpiry + 60;
+    JsonObject message = new JsonObject().put("target", "tenant").put("tenantId", tenant2);
+
+    try {
+      updateAccessTokenExpiry(tenant2, updatedExpiry);
+
+      // Act
+      publishCacheInvalidation(message);
+
+      // Assert
+      assertThat(
+          pollUntil(
+              CacheInvalidationIT::getAccessTokenExpiry,
+              expiry -> expiry == updatedExpiry,
+              PROPAGATION_TIMEOUT_MILLIS),
+          equalTo(updatedExpiry));
+    } finally {
+      updateAccessTokenExpiry(tenant2, accessTokenExpiry);
+      publishCacheInvalidation(message);
+    }
+  }
+
+  @Test
+  @DisplayName("Should reload the scope catalogue changed on another node once it is published")
+  void scopeInvalidationFromAnotherNode() {
+    // Arrange
+    String scope = RandomStringUtils.randomAlphanumeric(10);
+    assertThat(getScopesSupported(), not(hasItem(scope)));
+    JsonObject message = new JsonObject().put("target", "scopes").put("tenantId", tenant1);
+
+    try {
+      addOidcScope(tenant1, scope);
+
+      // Act
+      publishCacheInvalidation(message);
+
+      // Assert
+      assertThat(
+          pollUntil(
+              CacheInvalidationIT::getScopesSupported,
+              scopes -> scopes.contains(scope),
+              PROPAGATION_TIMEOUT_MILLIS),
+          hasItem(scope));
+    } finally {
+      deleteScope(tenant1, scope);
+      publishCacheInvalidation(message);
+    }
+  }
+
+  @Test
+  @DisplayName("Should drop a malformed invalidation and keep handling later ones")
+  void malformedInvalidationIsDropped() {
+    // Arrange
+    String clientId = addFirstPartyClient(tenant1);
+    getClientName(clientId);
+    String updatedName = RandomStringUtils.randomAlphanumeric(10);
+    updateClientName(tenant1, clientId, updatedName);
+
+    // Act
+    publishCacheInvalidation("{not json");
+    publishCacheInvalidation(new JsonObject().put("target", "client").put("clientId", clientId));
+    publishCacheInvalidation(
+        new JsonObject()
+            .put("target", "client")
+            .put("tenantId", tenant1)
+            .put("clientId", clientId));
+
+    // Assert
+    assertThat(
+        pollUntil(() -> getClientName(clientId), updatedName::equals, PROPAGATION_TIMEOUT_MILLIS),
+        equalTo(updatedName));
+  }
+}
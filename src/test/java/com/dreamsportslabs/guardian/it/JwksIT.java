@@ -19,6 +19,8 @@ public class JwksIT {
 
   private static final String TENANT_VALID = "tenant1";
   private static final String TENANT_UNKNOWN = randomAlphanumeric(8);
+  private static final String TENANT_EC = "tenant4";
+  private static final String TENANT_ED25519 = "tenant5";
 
   private static JsonArray extractKeys(Response response) {
     JsonObject json = new JsonObject(response.getBody().asString());
@@ -66,6 +68,50 @@ public class JwksIT {
     assertThat(key.getString("alg"), equalTo("RS256"));
   }
 
+  @Test
+  @DisplayName("Validate JWKS structure for EC signing keys")
+  void jwksStructureIsCorrectForEcKeys() {
+    // Act
+    Response response = getJwks(TENANT_EC);
+
+    // Validate
+    assertThat(response.getStatusCode(), equalTo(200));
+
+    JsonArray keys = extractKeys(response);
+    assertThat(keys.size(), equalTo(1));
+
+    JsonObject key = keys.getJsonObject(0);
+    assertThat(key.getString("kty"), equalTo("EC"));
+    assertThat(key.getString("use"), equalTo("sig"));
+    assertThat(key.getString("kid"), equalTo("ec-key-1"));
+    assertThat(key.getString("crv"), equalTo("P-256"));
+    assertNotNull(key.getString("x"));
+    assertNotNull(key.getString("y"));
+    assertThat(key.getString("alg"), equalTo("ES256"));
+    assertThat(key.containsKey("d"), equalTo(false));
+  }
+
+  @Test
+  @DisplayName("Validate JWKS structure for Ed25519 signing keys")
+  void jwksStructureIsCorrectForEd25519Keys() {
+    // Act
+    Response response = getJwks(TENANT_ED25519);
+
+    // Validate
+    assertThat(response.getStatusCode(), equalTo(200));
+
+    JsonArray keys = extractKeys(response);
+    assertThat(keys.size(), equalTo(1));
+
+    JsonObject key = keys.getJsonObject(0);
+    assertThat(key.getString("kty"), equalTo("OKP"));
+    assertThat(key.getString("kid"), equalTo("ed-key-1"));
+    assertThat(key.getString("crv"), equalTo("Ed25519"));
+    assertThat(key.getString("x"), equalTo("L9_yf3YsroNbANDDxCRxrtfKPywK-NX70_9J0sMdPD0"));
+    assertThat(key.getString("alg"), equalTo("Ed25519"));
+    assertThat(key.containsKey("d"), equalTo(false));
+  }
+
   @Test
   @DisplayName("Should return error for unknown tenant")
   void unknownTenantReturnsError() {
@@ -27,14 +27,17 @@ import static com.dreamsportslabs.guardian.Constants.CLIENT_CREDENTIALS_SEPARATO
 import static com.dreamsportslabs.guardian.Constants.CLIENT_ID;
 import static com.dreamsportslabs.guardian.Constants.CLIENT_NAME;
 import static com.dreamsportslabs.guardian.Constants.CLIENT_SECRET;
+import static com.dreamsportslabs.guardian.Constants.CODE;
 import static com.dreamsportslabs.guardian.Constants.CONTENT_TYPE_APPLICATION_JSON;
 import static com.dreamsportslabs.guardian.Constants.CONTENT_TYPE_FORM_URLENCODED;
 import static com.dreamsportslabs.guardian.Constants.DEVICE_VALUE;
 import static com.dreamsportslabs.guardian.Constants.EMAIL_DOMAIN_EXAMPLE;
 import static com.dreamsportslabs.guardian.Constants.ERROR;
 import static com.dreamsportslabs.guardian.Constants.ERROR_DESCRIPTION;
+import static com.dreamsportslabs.guardian.Constants.ERROR_INVALID_CODE;
 import static com.dreamsportslabs.guardian.Constants.ERROR_INVALID_SCOPE;
 import static com.dreamsportslabs.guardian.Constants.ERROR_MSG_GRANT_TYPE_REQUIRED;
+import static com.dreamsportslabs.guardian.Constants.ERROR_MSG_INVALID_CODE;
 import static com.dreamsportslabs.guardian.Constants.EXAMPLE_CALLBACK;
 import static com.dreamsportslabs.guardian.Constants.EXPIRED_TOKEN_OFFSET_SECONDS;
 import static com.dreamsportslabs.guardian.Constants.GRANT_TYPES;
@@ -57,6 +60,7 @@ import static com.dreamsportslabs.guardian.Constants.JSON_PHONE_NUMBER_VERIFIED;
 import static com.dreamsportslabs.guardian.Constants.JWT_CLAIM_ISS;
 import static com.dreamsportslabs.guardian.Constants.JWT_CLAIM_SUB;
 import static com.dreamsportslabs.guardian.Constants.LOCATION_VALUE;
+import static com.dreamsportslabs.guardian.Constants.MESSAGE;
 import static com.dreamsportslabs.guardian.Constants.MOCK_USERNAME;
 import static com.dreamsportslabs.guardian.Constants.MOCK_USER_ID;
 import static com.dreamsportslabs.guardian.Constants.MOCK_USER_NAME;
@@ -140,6 +144,7 @@ import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
 import static org.apache.http.HttpStatus.SC_BAD_REQUEST;
 import static org.apache.http.HttpStatus.SC_UNAUTHORIZED;
 import static org.hamcrest.CoreMatchers.isA;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.equalTo;
@@ -1338,6 +1343,89 @@ public class OidcTokenIT {
         .body(ERROR_DESCRIPTION, equalTo(TOKEN_ERROR_MSG_AUTHORIZATION_CODE_INVALID));
   }
 
+  @Test
+  @DisplayName("Authorization Code - Should return error when the code is replayed")
+  public void testAuthorizationCodeReplay() {
+    // Arrange
+    StubMapping stubMapping = getOidcUserStub(generateRandomEmail(), generateRandomPhoneNumber());
+    Map<String, String> headers = new HashMap<>();
+    headers.put(HEADER_AUTHORIZATION, getBasicAuthHeader(validClientId, validClientSecret));
+    headers.put(HEADER_CONTENT_TYPE, CONTENT_TYPE_FORM_URLENCODED);
+    Map<String, String> formParams = new HashMap<>();
+    formParams.put(TOKEN_PARAM_GRANT_TYPE, AUTHORIZATION_CODE);
+    formParams.put(TOKEN_PARAM_CODE, validAuthCode);
+    formParams.put(TOKEN_PARAM_REDIRECT_URI, EXAMPLE_CALLBACK);
+
+    // Act
+    Response firstResponse = ApplicationIoUtils.token(tenant1, headers, formParams);
+    Response replayResponse = ApplicationIoUtils.token(tenant1, headers, formParams);
+
+    // Validate
+    firstResponse.then().statusCode(200).body(TOKEN_PARAM_ACCESS_TOKEN, isA(String.class));
+    replayResponse
+        .then()
+        .statusCode(SC_BAD_REQUEST)
+        .body(ERROR, equalTo(TOKEN_ERROR_INVALID_GRANT))
+        .body(ERROR_DESCRIPTION, equalTo(TOKEN_ERROR_MSG_AUTHORIZATION_CODE_INVALID));
+    assertThat(DbUtils.getOidcCode(tenant1, validAuthCode), nullValue());
+
+    wireMockServer.removeStub(stubMapping);
+  }
+
+  @Test
+  @DisplayName("Authorization Code - Should burn the code when the first exchange fails")
+  public void testAuthorizationCodeBurnedAfterFailedExchange() {
+    // Arrange
+    Map<String, String> headers = new HashMap<>();
+    headers.put(HEADER_AUTHORIZATION, getBasicAuthHeader(validClientId, validClientSecret));
+    headers.put(HEADER_CONTENT_TYPE, CONTENT_TYPE_FORM_URLENCODED);
+    Map<String, String> formParams = new HashMap<>();
+    formParams.put(TOKEN_PARAM_GRANT_TYPE, AUTHORIZATION_CODE);
+    formParams.put(TOKEN_PARAM_CODE, validAuthCode);
+    formParams.put(TOKEN_PARAM_REDIRECT_URI, CALLBACK_1);
+
+    // Act
+    Response failedResponse = ApplicationIoUtils.token(tenant1, headers, formParams);
+    formParams.put(TOKEN_PARAM_REDIRECT_URI, EXAMPLE_CALLBACK);
+    Response retryResponse = ApplicationIoUtils.token(tenant1, headers, formParams);
+
+    // Validate
+    failedResponse
+        .then()
+        .statusCode(SC_BAD_REQUEST)
+        .body(ERROR_DESCRIPTION, equalTo(TOKEN_ERROR_MSG_REDIRECT_URI_INVALID));
+    retryResponse
+        .then()
+        .statusCode(SC_BAD_REQUEST)
+        .body(ERROR, equalTo(TOKEN_ERROR_INVALID_GRANT))
+        .body(ERROR_DESCRIPTION, equalTo(TOKEN_ERROR_MSG_AUTHORIZATION_CODE_INVALID));
+  }
+
+  @Test
+  @DisplayName("Code Token Exchange - Should return error when the legacy code is replayed")
+  public void testLegacyCodeReplay() {
+    // Arrange
+    String code = RandomStringUtils.randomAlphanumeric(20);
+    DbUtils.createCode(tenant1, code, TEST_USER_ID, validClientId, 600);
+
+    // Act
+    Response firstResponse = ApplicationIoUtils.codeTokenExchange(tenant1, code);
+    Response replayResponse = ApplicationIoUtils.codeTokenExchange(tenant1, code);
+
+    // Validate
+    firstResponse
+        .then()
+        .statusCode(200)
+        .body(TOKEN_PARAM_ACCESS_TOKEN, isA(String.class))
+        .body(TOKEN_PARAM_REFRESH_TOKEN, isA(String.class));
+    replayResponse
+        .then()
+        .statusCode(SC_BAD_REQUEST)
+        .rootPath(ERROR)
+        .body(CODE, equalTo(ERROR_INVALID_CODE))
+        .body(MESSAGE, equalTo(ERROR_MSG_INVALID_CODE));
+  }
+
   @Test
   @DisplayName("Authorization Code - Should return error for different client")
   public void testAuthorizationCodeDifferentClient() {
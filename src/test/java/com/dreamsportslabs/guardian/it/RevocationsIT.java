@@ -0,0 +1,392 @@
+package com.dreamsportslabs.guardian.it;
+
+import static com.dreamsportslabs.guardian.Constants.CODE;
+import static com.dreamsportslabs.guardian.Constants.ERROR;
+import static com.dreamsportslabs.guardian.Constants.ERROR_INVALID_REQUEST;
+import static com.dreamsportslabs.guardian.Constants.MESSAGE;
+import static com.dreamsportslabs.guardian.Constants.TENANT_1;
+import static com.dreamsportslabs.guardian.utils.ApplicationIoUtils.getRevocations;
+import static com.dreamsportslabs.guardian.utils.ApplicationIoUtils.getRevocationsDelta;
+import static com.dreamsportslabs.guardian.utils.ApplicationIoUtils.getRevocationsSnapshot;
+import static com.dreamsportslabs.guardian.utils.DbUtils.addFirstPartyClient;
+import static com.dreamsportslabs.guardian.utils.DbUtils.addRevocations;
+import static com.dreamsportslabs.guardian.utils.DbUtils.cleanupRedis;
+import static com.dreamsportslabs.guardian.utils.PollUtils.pollUntil;
+import static org.apache.http.HttpHeaders.ETAG;
+import static org.apache.http.HttpStatus.SC_BAD_REQUEST;
+import static org.apache.http.HttpStatus.SC_NOT_MODIFIED;
+import static org.apache.http.HttpStatus.SC_NO_CONTENT;
+import static org.apache.http.HttpStatus.SC_OK;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.lessThan;
+
+import com.dreamsportslabs.guardian.utils.ApplicationIoUtils;
+import com.dreamsportslabs.guardian.utils.DbUtils;
+import io.restassured.response.Response;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import lombok.SneakyThrows;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class RevocationsIT {
+  private static final String tenant1 = TENANT_1;
+  private static final String PARAM_CURSOR = "cursor";
+  private static final String PARAM_LIMIT = "limit";
+  private static final String PARAM_WAIT = "wait";
+  private static final String RESPONSE_REVOCATIONS = "revocations";
+  private static final String RESPONSE_CURSOR = "cursor";
+  private static final String PARAM_FORMAT = "format";
+  private static final byte SNAPSHOT_VERSION = 2;
+  private static final byte FORMAT_SET = 0;
+  private static final byte FORMAT_BLOOM = 1;
+  private static final int HEADER_LENGTH = 26;
+  private static final int RFT_ID_LENGTH = 16;
+  // Windows end at the last complete 10 second boundary, so new revocations show up within one
+  private static final long SNAPSHOT_POLL_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(25);
+  private static String client1;
+
+  @BeforeAll
+  static void setup() {
+    client1 = addFirstPartyClient(tenant1);
+  }
+
+  @BeforeEach
+  void cleanup() {
+    cleanupRedis();
+  }
+
+  private static String randomRftId() {
+    return DigestUtils.md5Hex(RandomStringUtils.randomAlphanumeric(32)).toUpperCase();
+  }
+
+  private static String logout() {
+    String refreshToken =
+        DbUtils.insertOidcRefreshToken(
+            tenant1,
+            client1,
+            RandomStringUtils.randomAlphanumeric(10),
+            1800L,
+            "[\"openid\"]",
+            "test-device",
+            "127.0.0.1",
+            "test-source",
+            "test-location",
+            "[\"PASSWORD\"]");
+    Map<String, Object> requestBody = new HashMap<>();
+    requestBody.put("refresh_token", refreshToken);
+    requestBody.put("logout_type", "TOKEN");
+    ApplicationIoUtils.v2Logout(tenant1, requestBody, null).then().statusCode(SC_NO_CONTENT);
+    return DigestUtils.md5Hex(refreshToken).toUpperCase();
+  }
+
+  private static String getCursor() {
+    Response response = getRevocationsDelta(tenant1, new HashMap<>(), null);
+    response.then().statusCode(SC_OK);
+    return response.jsonPath().getString(RESPONSE_CURSOR);
+  }
+
+  /** Polls the snapshot until the window covers the revocations, the server caches windows. */
+  private static byte[] pollSnapshot(String format, Predicate<byte[]> covered) {
+    Map<String, String> queryParams = new HashMap<>();
+    queryParams.put(PARAM_FORMAT, format);
+    return pollUntil(
+        () -> {
+          Response response = getRevocationsSnapshot(tenant1, queryParams);
+          response.then().statusCode(SC_OK);
+          return response.asByteArray();
+        },
+        covered,
+        SNAPSHOT_POLL_TIMEOUT_MILLIS);
+  }
+
+  private static List<String> getRevocationList() {
+    Response response = getRevocations(tenant1, new HashMap<>());
+    response.then().statusCode(SC_OK);
+    return response.jsonPath().getList(RESPONSE_REVOCATIONS, String.class);
+  }
+
+  @SneakyThrows
+  private static List<String> readSetIds(byte[] snapshot) {
+    DataInputStream in = new DataInputStream(new ByteArrayInputStream(snapshot));
+    in.skipBytes(HEADER_LENGTH - Integer.BYTES);
+    int count = in.readInt();
+    List<String> rftIds = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      byte[] rftId = new byte[RFT_ID_LENGTH];
+      in.readFully(rftId);
+      rftIds.add(HexFormat.of().withUpperCase().formatHex(rftId));
+    }
+    return rftIds;
+  }
+
+  // Follows the layout documented on the endpoint rather than any library's serialised form
+  @SneakyThrows
+  private static boolean mightContainAll(byte[] snapshot, List<String> rftIds) {
+    DataInputStream in = new DataInputStream(new ByteArrayInputStream(snapshot));
+    in.skipBytes(HEADER_LENGTH);
+    int hashFunctions = in.readUnsignedByte();
+    long[] words = new long[in.readInt()];
+    for (int i = 0; i < words.length; i++) {
+      words[i] = in.readLong();
+    }
+    long bits = (long) words.length * Long.SIZE;
+    return rftIds.stream()
+        .allMatch(
+            rftId -> {
+              ByteBuffer buffer = ByteBuffer.wrap(HexFormat.of().parseHex(rftId));
+              long h1 = buffer.getLong();
+              long h2 = buffer.getLong();
+              for (int i = 0; i < hashFunctions; i++) {
+                long bit = Long.remainderUnsigned(h1 + i * h2, bits);
+                if ((words[(int) (bit / Long.SIZE)] >>> (bit % Long.SIZE) & 1) == 0) {
+                  return false;
+                }
+              }
+              return true;
+            });
+  }
+
+  @Test
+  @DisplayName("List - Should serve a revocation written late with an older time to a warm cache")
+  @SneakyThrows
+  void listIncludesBackdatedRevocation() {
+    // Arrange
+    getRevocations(tenant1, new HashMap<>()).then().statusCode(SC_OK);
+    // The cached timeline now covers up to the previous second, wait until it is past the score
+    long revokedAt = Instant.now().getEpochSecond() - 3;
+    Thread.sleep(2000);
+    String rftId = randomRftId();
+
+    // Act
+    addRevocations(tenant1, List.of(rftId), revokedAt);
+
+    // Assert
+    assertThat(
+        pollUntil(
+            RevocationsIT::getRevocationList,
+            revocations -> revocations.contains(rftId),
+            SNAPSHOT_POLL_TIMEOUT_MILLIS),
+        hasItem(rftId));
+  }
+
+  @Test
+  @DisplayName("Delta - Should page through revocations with the cursor")
+  void deltaPagesWithCursor() {
+    // Arrange
+    String first = randomRftId();
+    String second = randomRftId();
+    String third = randomRftId();
+    addRevocations(tenant1, List.of(first, second, third));
+    Map<String, String> queryParams = new HashMap<>();
+    queryParams.put(PARAM_LIMIT, "2");
+
+    // Act
+    Response firstPage = getRevocationsDelta(tenant1, queryParams, null);
+    String cursor = firstPage.jsonPath().getString(RESPONSE_CURSOR);
+    queryParams.put(PARAM_CURSOR, cursor);
+    Response secondPage = getRevocationsDelta(tenant1, queryParams, null);
+    queryParams.put(PARAM_CURSOR, secondPage.jsonPath().getString(RESPONSE_CURSOR));
+    Response lastPage = getRevocationsDelta(tenant1, queryParams, null);
+
+    // Assert
+    firstPage.then().statusCode(SC_OK);
+    assertThat(firstPage.jsonPath().getList(RESPONSE_REVOCATIONS), contains(first, second));
+    assertThat(firstPage.getHeader(ETAG), equalTo("\"" + cursor + "\""));
+
+    secondPage.then().statusCode(SC_OK);
+    assertThat(secondPage.jsonPath().getList(RESPONSE_REVOCATIONS), contains(third));
+
+    lastPage.then().statusCode(SC_OK);
+    assertThat(lastPage.jsonPath().getList(RESPONSE_REVOCATIONS), empty());
+    assertThat(
+        lastPage.jsonPath().getString(RESPONSE_CURSOR),
+        equalTo(secondPage.jsonPath().getString(RESPONSE_CURSOR)));
+  }
+
+  @Test
+  @DisplayName("Delta - Should return not modified when nothing was revoked after the ETag")
+  void deltaReturnsNotModifiedForCurrentEntityTag() {
+    // Arrange
+    addRevocations(tenant1, List.of(randomRftId()));
+    String cursor = getCursor();
+
+    // Act
+    Response response = getRevocationsDelta(tenant1, new HashMap<>(), "\"" + cursor + "\"");
+
+    // Assert
+    response.then().statusCode(SC_NOT_MODIFIED);
+    assertThat(response.getHeader(ETAG), equalTo("\"" + cursor + "\""));
+  }
+
+  @Test
+  @DisplayName("Delta - Should return revocations added after the ETag")
+  void deltaReturnsRevocationsAfterEntityTag() {
+    // Arrange
+    String cursor = getCursor();
+    String rftId = randomRftId();
+    addRevocations(tenant1, List.of(rftId));
+
+    // Act
+    Response response = getRevocationsDelta(tenant1, new HashMap<>(), "\"" + cursor + "\"");
+
+    // Assert
+    response.then().statusCode(SC_OK);
+    assertThat(response.jsonPath().getList(RESPONSE_REVOCATIONS), contains(rftId));
+  }
+
+  @Test
+  @DisplayName("Delta - Should return as soon as a revocation is added while waiting")
+  void deltaWaitReturnsOnLogout() {
+    // Arrange
+    String cursor = getCursor();
+    Map<String, String> queryParams = new HashMap<>();
+    queryParams.put(PARAM_CURSOR, cursor);
+    queryParams.put(PARAM_WAIT, "10");
+    CompletableFuture<String> revoked =
+        CompletableFuture.supplyAsync(
+            RevocationsIT::logout, CompletableFuture.delayedExecutor(500, TimeUnit.MILLISECONDS));
+
+    // Act
+    long start = System.currentTimeMillis();
+    Response response = getRevocationsDelta(tenant1, queryParams, null);
+    long elapsedMillis = System.currentTimeMillis() - start;
+
+    // Assert
+    response.then().statusCode(SC_OK);
+    assertThat(response.jsonPath().getList(RESPONSE_REVOCATIONS), contains(revoked.join()));
+    assertThat(elapsedMillis, lessThan(TimeUnit.SECONDS.toMillis(10)));
+  }
+
+  @Test
+  @DisplayName("Delta - Should wait and return not modified when nothing is revoked")
+  void deltaWaitElapsesWithoutRevocations() {
+    // Arrange
+    String cursor = getCursor();
+    Map<String, String> queryParams = new HashMap<>();
+    queryParams.put(PARAM_WAIT, "1");
+
+    // Act
+    long start = System.currentTimeMillis();
+    Response response = getRevocationsDelta(tenant1, queryParams, "\"" + cursor + "\"");
+    long elapsedMillis = System.currentTimeMillis() - start;
+
+    // Assert
+    response.then().statusCode(SC_NOT_MODIFIED);
+    assertThat(elapsedMillis, greaterThanOrEqualTo(TimeUnit.SECONDS.toMillis(1)));
+  }
+
+  @Test
+  @DisplayName("Delta - Should return error for invalid cursor")
+  void deltaInvalidCursor() {
+    // Arrange
+    Map<String, String> queryParams = new HashMap<>();
+    queryParams.put(PARAM_CURSOR, "invalid");
+
+    // Act
+    Response response = getRevocationsDelta(tenant1, queryParams, null);
+
+    // Assert
+    response
+        .then()
+        .statusCode(SC_BAD_REQUEST)
+        .rootPath(ERROR)
+        .body(CODE, equalTo(ERROR_INVALID_REQUEST))
+        .body(MESSAGE, equalTo("Invalid cursor"));
+  }
+
+  @Test
+  @DisplayName("Snapshot - Should return the revocations as sorted 128 bit ids")
+  @SneakyThrows
+  void snapshotSet() {
+    // Arrange
+    List<String> rftIds = List.of(randomRftId(), randomRftId(), randomRftId());
+    addRevocations(tenant1, rftIds);
+
+    // Act
+    byte[] snapshot = pollSnapshot("set", bytes -> readSetIds(bytes).containsAll(rftIds));
+
+    // Assert
+    DataInputStream in = new DataInputStream(new ByteArrayInputStream(snapshot));
+    assertThat(in.readByte(), equalTo(SNAPSHOT_VERSION));
+    assertThat(in.readByte(), equalTo(FORMAT_SET));
+    long from = in.readLong();
+    long to = in.readLong();
+    assertThat(to, greaterThan(from));
+    assertThat(in.readInt(), greaterThan(0));
+    int count = in.readInt();
+    assertThat(snapshot.length, equalTo(HEADER_LENGTH + count * RFT_ID_LENGTH));
+
+    List<String> snapshotIds = readSetIds(snapshot);
+    assertThat(snapshotIds, hasItems(rftIds.toArray(new String[0])));
+    for (int i = 1; i < snapshotIds.size(); i++) {
+      assertThat(
+          Arrays.compareUnsigned(
+              HexFormat.of().parseHex(snapshotIds.get(i - 1)),
+              HexFormat.of().parseHex(snapshotIds.get(i))),
+          lessThan(0));
+    }
+  }
+
+  @Test
+  @DisplayName("Snapshot - Should return a bloom filter over the revocations")
+  @SneakyThrows
+  void snapshotBloom() {
+    // Arrange
+    List<String> rftIds = List.of(randomRftId(), randomRftId(), randomRftId());
+    addRevocations(tenant1, rftIds);
+
+    // Act
+    byte[] snapshot = pollSnapshot("bloom", bytes -> mightContainAll(bytes, rftIds));
+
+    // Assert
+    DataInputStream in = new DataInputStream(new ByteArrayInputStream(snapshot));
+    assertThat(in.readByte(), equalTo(SNAPSHOT_VERSION));
+    assertThat(in.readByte(), equalTo(FORMAT_BLOOM));
+    in.skipBytes(HEADER_LENGTH - Integer.BYTES - 2);
+    assertThat(in.readInt(), greaterThanOrEqualTo(rftIds.size()));
+    assertThat(in.readUnsignedByte(), greaterThan(0));
+    assertThat(mightContainAll(snapshot, rftIds), equalTo(true));
+  }
+
+  @Test
+  @DisplayName("Snapshot - Should return error for invalid format")
+  void snapshotInvalidFormat() {
+    // Arrange
+    Map<String, String> queryParams = new HashMap<>();
+    queryParams.put(PARAM_FORMAT, "invalid");
+
+    // Act
+    Response response = getRevocationsSnapshot(tenant1, queryParams);
+
+    // Assert
+    response
+        .then()
+        .statusCode(SC_BAD_REQUEST)
+        .rootPath(ERROR)
+        .body(CODE, equalTo(ERROR_INVALID_REQUEST))
+        .body(MESSAGE, equalTo("Invalid format"));
+  }
+}
@@ -41,16 +41,20 @@ import static com.dreamsportslabs.guardian.Constants.TOKEN_ERROR_MSG_CLIENT_AUTH
 import static com.dreamsportslabs.guardian.utils.ApplicationIoUtils.createClient;
 import static com.dreamsportslabs.guardian.utils.ApplicationIoUtils.createClientScope;
 import static com.dreamsportslabs.guardian.utils.ApplicationIoUtils.createScope;
+import static com.dreamsportslabs.guardian.utils.ApplicationIoUtils.getRevocations;
 import static com.dreamsportslabs.guardian.utils.ApplicationIoUtils.revokeToken;
 import static com.dreamsportslabs.guardian.utils.DbUtils.cleanupClients;
 import static com.dreamsportslabs.guardian.utils.DbUtils.cleanupOidcRefreshTokens;
 import static com.dreamsportslabs.guardian.utils.DbUtils.cleanupRedis;
 import static com.dreamsportslabs.guardian.utils.DbUtils.cleanupScopes;
 import static com.dreamsportslabs.guardian.utils.DbUtils.insertOidcRefreshToken;
+import static com.dreamsportslabs.guardian.utils.PollUtils.pollUntil;
 import static org.apache.http.HttpStatus.SC_BAD_REQUEST;
 import static org.apache.http.HttpStatus.SC_OK;
 import static org.apache.http.HttpStatus.SC_UNAUTHORIZED;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -63,6 +67,8 @@ import java.util.Base64;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -445,4 +451,45 @@ class RevokeTokenIT {
     // Assert
     response.then().statusCode(SC_UNAUTHORIZED).body(ERROR, equalTo(ERROR_INVALID_CLIENT));
   }
+
+  @Test
+  @DisplayName("Should list a revoked token in revocations already cached for the tenant")
+  void testRevokedTokenListedInCachedRevocations() {
+    // Arrange
+    List<String> scopes = Arrays.asList(SCOPE_OPENID, SCOPE_EMAIL);
+    String refreshToken =
+        insertOidcRefreshToken(
+            tenant1,
+            validClientId,
+            TEST_USER_ID,
+            REFRESH_TOKEN_EXPIRY_SECONDS,
+            scopes,
+            true,
+            TEST_DEVICE_NAME,
+            TEST_IP_ADDRESS);
+    getRevocations(tenant1, new HashMap<>()).then().statusCode(SC_OK);
+
+    Map<String, String> headers = new HashMap<>();
+    headers.put(HEADER_AUTHORIZATION, getBasicAuthHeader(validClientId, validClientSecret));
+    headers.put(HEADER_CONTENT_TYPE, CONTENT_TYPE_FORM_URLENCODED);
+    Map<String, String> formParams = new HashMap<>();
+    formParams.put(TOKEN, refreshToken);
+
+    // Act
+    revokeToken(tenant1, headers, formParams).then().statusCode(SC_OK);
+
+    // Assert
+    // The window ends at the last complete 10 second boundary, so poll until it covers the revoke
+    String rftId = DigestUtils.md5Hex(refreshToken).toUpperCase();
+    assertThat(
+        pollUntil(
+            () -> {
+              Response response = getRevocations(tenant1, new HashMap<>());
+              response.then().statusCode(SC_OK);
+              return response.jsonPath().getList("revocations", String.class);
+            },
+            revocations -> revocations.contains(rftId),
+            TimeUnit.SECONDS.toMillis(25)),
+        hasItem(rftId));
+  }
 }
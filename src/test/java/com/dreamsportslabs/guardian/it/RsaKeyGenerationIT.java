@@ -6,6 +6,7 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.isA;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.greaterThan;
@@ -14,7 +15,13 @@ import static org.hamcrest.Matchers.is;
 
 import io.restassured.response.Response;
 import io.vertx.core.json.JsonObject;
+import java.nio.charset.StandardCharsets;
 import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.EdECPublicKey;
 import java.security.interfaces.RSAPrivateKey;
 import java.security.interfaces.RSAPublicKey;
 import java.security.spec.PKCS8EncodedKeySpec;
@@ -247,6 +254,199 @@ public class RsaKeyGenerationIT {
         .body(MESSAGE, equalTo(ERROR_MSG_INVALID_KEY_FORMAT));
   }
 
+  @Test
+  @DisplayName("Should generate EC key on P-256 by default")
+  void generateEcKeyWithDefaults() throws Exception {
+    // Arrange
+    Map<String, Object> requestBody = new HashMap<>();
+    requestBody.put(KEY_TYPE, KEY_TYPE_EC);
+
+    // Act
+    Response response = generateRsaKey(requestBody);
+
+    // Assert
+    response
+        .then()
+        .statusCode(200)
+        .body(RSA_KEY_KID, isA(String.class))
+        .body(KEY_TYPE, equalTo(KEY_TYPE_EC))
+        .body(KEY_CURVE, equalTo(CURVE_P256))
+        .body(RSA_KEY_SIZE, nullValue());
+
+    JsonObject responseBody = extractResponseBody(response);
+    String publicKey = responseBody.getString(RSA_KEY_PUBLIC_KEY);
+    String privateKey = responseBody.getString(RSA_KEY_PRIVATE_KEY);
+    assertThat(publicKey, containsString(PEM_PUBLIC_KEY_HEADER));
+    assertThat(privateKey, containsString(PEM_PRIVATE_KEY_HEADER));
+
+    ECPublicKey publicKeyObj = (ECPublicKey) parsePublicKey(publicKey, EC_ALGORITHM);
+    assertThat(
+        publicKeyObj.getParams().getCurve().getField().getFieldSize(), equalTo(EC_P256_FIELD_SIZE));
+    assertThat(
+        signsAndVerifies(
+            "SHA256withECDSA", parsePrivateKey(privateKey, EC_ALGORITHM), publicKeyObj),
+        equalTo(true));
+  }
+
+  @Test
+  @DisplayName("Should generate EC key in JWKS format")
+  void generateEcKeyInJwksFormat() {
+    // Arrange
+    Map<String, Object> requestBody = new HashMap<>();
+    requestBody.put(KEY_TYPE, KEY_TYPE_EC);
+    requestBody.put(KEY_CURVE, CURVE_P384);
+    requestBody.put(RSA_KEY_FORMAT, RSA_FORMAT_JWKS);
+
+    // Act
+    Response response = generateRsaKey(requestBody);
+
+    // Assert
+    response.then().statusCode(200).body(KEY_CURVE, equalTo(CURVE_P384));
+
+    JsonObject responseBody = extractResponseBody(response);
+    JsonObject publicKey = responseBody.getJsonObject(RSA_KEY_PUBLIC_KEY);
+    JsonObject privateKey = responseBody.getJsonObject(RSA_KEY_PRIVATE_KEY);
+    assertThat(publicKey.getString(RSA_KEY_TYPE), equalTo(KEY_TYPE_EC));
+    assertThat(publicKey.getString(JWK_CURVE), equalTo(CURVE_P384));
+    assertThat(publicKey.getString(JWK_ALGORITHM), equalTo("ES384"));
+    assertThat(publicKey.getString(JWK_PRIVATE), nullValue());
+    assertThat(privateKey.getString(JWK_PRIVATE), notNullValue());
+
+    // Both halves describe the same point
+    assertThat(privateKey.getString(JWK_X), equalTo(publicKey.getString(JWK_X)));
+    assertThat(privateKey.getString(JWK_Y), equalTo(publicKey.getString(JWK_Y)));
+  }
+
+  @Test
+  @DisplayName("Should generate different kids for different EC keys")
+  void generateMultipleEcKeysHaveDifferentKids() {
+    // Arrange
+    Map<String, Object> requestBody = new HashMap<>();
+    requestBody.put(KEY_TYPE, KEY_TYPE_EC);
+
+    // Act
+    Response response1 = generateRsaKey(requestBody);
+    Response response2 = generateRsaKey(requestBody);
+
+    // Assert
+    assertThat(response1.getStatusCode(), equalTo(200));
+    assertThat(response2.getStatusCode(), equalTo(200));
+    assertThat(
+        extractResponseBody(response1).getString(RSA_KEY_KID),
+        is(not(equalTo(extractResponseBody(response2).getString(RSA_KEY_KID)))));
+  }
+
+  @Test
+  @DisplayName("Should generate Ed25519 key in PEM format")
+  void generateEd25519Key() throws Exception {
+    // Arrange
+    Map<String, Object> requestBody = new HashMap<>();
+    requestBody.put(KEY_TYPE, KEY_TYPE_OKP);
+
+    // Act
+    Response response = generateRsaKey(requestBody);
+
+    // Assert
+    response
+        .then()
+        .statusCode(200)
+        .body(RSA_KEY_KID, isA(String.class))
+        .body(KEY_TYPE, equalTo(KEY_TYPE_OKP))
+        .body(KEY_CURVE, equalTo(CURVE_ED25519))
+        .body(RSA_KEY_SIZE, nullValue());
+
+    JsonObject responseBody = extractResponseBody(response);
+    PublicKey publicKey =
+        parsePublicKey(responseBody.getString(RSA_KEY_PUBLIC_KEY), ED25519_ALGORITHM);
+    PrivateKey privateKey =
+        parsePrivateKey(responseBody.getString(RSA_KEY_PRIVATE_KEY), ED25519_ALGORITHM);
+    assertThat(publicKey, instanceOf(EdECPublicKey.class));
+    assertThat(signsAndVerifies(ED25519_ALGORITHM, privateKey, publicKey), equalTo(true));
+  }
+
+  @Test
+  @DisplayName("Should generate Ed25519 key in JWKS format")
+  void generateEd25519KeyInJwksFormat() {
+    // Arrange
+    Map<String, Object> requestBody = new HashMap<>();
+    requestBody.put(KEY_TYPE, KEY_TYPE_OKP);
+    requestBody.put(RSA_KEY_FORMAT, RSA_FORMAT_JWKS);
+
+    // Act
+    Response response = generateRsaKey(requestBody);
+
+    // Assert
+    response.then().statusCode(200);
+
+    JsonObject responseBody = extractResponseBody(response);
+    JsonObject publicKey = responseBody.getJsonObject(RSA_KEY_PUBLIC_KEY);
+    JsonObject privateKey = responseBody.getJsonObject(RSA_KEY_PRIVATE_KEY);
+    assertThat(publicKey.getString(RSA_KEY_TYPE), equalTo(KEY_TYPE_OKP));
+    assertThat(publicKey.getString(JWK_CURVE), equalTo(CURVE_ED25519));
+    assertThat(publicKey.getString(JWK_PRIVATE), nullValue());
+    assertThat(privateKey.getString(JWK_PRIVATE), notNullValue());
+    assertThat(privateKey.getString(JWK_X), equalTo(publicKey.getString(JWK_X)));
+  }
+
+  @Test
+  @DisplayName("Should return error for invalid EC curve")
+  void generateEcKeyWithInvalidCurve() {
+    // Arrange
+    Map<String, Object> requestBody = new HashMap<>();
+    requestBody.put(KEY_TYPE, KEY_TYPE_EC);
+    requestBody.put(KEY_CURVE, CURVE_INVALID);
+
+    // Act
+    Response response = generateRsaKey(requestBody);
+
+    // Assert
+    response
+        .then()
+        .statusCode(400)
+        .rootPath(ERROR)
+        .body(CODE, equalTo(ERROR_INVALID_REQUEST))
+        .body(MESSAGE, equalTo(ERROR_MSG_INVALID_EC_CURVE));
+  }
+
+  @Test
+  @DisplayName("Should return error for invalid OKP curve")
+  void generateOkpKeyWithInvalidCurve() {
+    // Arrange
+    Map<String, Object> requestBody = new HashMap<>();
+    requestBody.put(KEY_TYPE, KEY_TYPE_OKP);
+    requestBody.put(KEY_CURVE, CURVE_P256);
+
+    // Act
+    Response response = generateRsaKey(requestBody);
+
+    // Assert
+    response
+        .then()
+        .statusCode(400)
+        .rootPath(ERROR)
+        .body(CODE, equalTo(ERROR_INVALID_REQUEST))
+        .body(MESSAGE, equalTo(ERROR_MSG_INVALID_OKP_CURVE));
+  }
+
+  @Test
+  @DisplayName("Should return error for invalid key type")
+  void generateKeyWithInvalidKeyType() {
+    // Arrange
+    Map<String, Object> requestBody = new HashMap<>();
+    requestBody.put(KEY_TYPE, KEY_TYPE_INVALID);
+
+    // Act
+    Response response = generateRsaKey(requestBody);
+
+    // Assert
+    response
+        .then()
+        .statusCode(400)
+        .rootPath(ERROR)
+        .body(CODE, equalTo(ERROR_INVALID_REQUEST))
+        .body(MESSAGE, equalTo(ERROR_MSG_INVALID_KEY_TYPE));
+  }
+
   // Helper methods for key parsing
   private RSAPublicKey parsePublicKey(String publicKeyPem) throws Exception {
     String publicKeyContent =
@@ -273,4 +473,40 @@ public class RsaKeyGenerationIT {
     KeyFactory keyFactory = KeyFactory.getInstance(RSA_ALGORITHM);
     return (RSAPrivateKey) keyFactory.generatePrivate(spec);
   }
+
+  private PublicKey parsePublicKey(String publicKeyPem, String algorithm) throws Exception {
+    String publicKeyContent =
+        publicKeyPem
+            .replace(PEM_PUBLIC_KEY_HEADER, "")
+            .replace(PEM_PUBLIC_KEY_FOOTER, "")
+            .replaceAll("\\s", "");
+
+    byte[] keyBytes = Base64.getDecoder().decode(publicKeyContent);
+    return KeyFactory.getInstance(algorithm).generatePublic(new X509EncodedKeySpec(keyBytes));
+  }
+
+  private PrivateKey parsePrivateKey(String privateKeyPem, String algorithm) throws Exception {
+    String privateKeyContent =
+        privateKeyPem
+            .replace(PEM_PRIVATE_KEY_HEADER, "")
+            .replace(PEM_PRIVATE_KEY_FOOTER, "")
+            .replaceAll("\\s", "");
+
+    byte[] keyBytes = Base64.getDecoder().decode(privateKeyContent);
+    return KeyFactory.getInstance(algorithm).generatePrivate(new PKCS8EncodedKeySpec(keyBytes));
+  }
+
+  private boolean signsAndVerifies(String algorithm, PrivateKey privateKey, PublicKey publicKey)
+      throws Exception {
+    byte[] payload = "payload".getBytes(StandardCharsets.UTF_8);
+    Signature signer = Signature.getInstance(algorithm);
+    signer.initSign(privateKey);
+    signer.update(payload);
+    byte[] signature = signer.sign();
+
+    Signature verifier = Signature.getInstance(algorithm);
+    verifier.initVerify(publicKey);
+    verifier.update(payload);
+    return verifier.verify(signature);
+  }
 }
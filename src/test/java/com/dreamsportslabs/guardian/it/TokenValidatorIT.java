@@ -0,0 +1,219 @@
+package com.dreamsportslabs.guardian.it;
+
+import static com.dreamsportslabs.guardian.Constants.TENANT_1;
+import static com.dreamsportslabs.guardian.utils.DbUtils.addRevocations;
+import static com.dreamsportslabs.guardian.utils.DbUtils.cleanupRedis;
+import static com.dreamsportslabs.guardian.utils.PollUtils.pollUntil;
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.dreamsportslabs.guardian.jwtVerifier.TokenValidator;
+import com.dreamsportslabs.guardian.jwtVerifier.exception.InvalidTokenException;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import io.fusionauth.jwt.JWTUtils;
+import io.fusionauth.jwt.domain.JWT;
+import io.fusionauth.jwt.domain.KeyPair;
+import io.fusionauth.jwt.rsa.RSASigner;
+import io.restassured.RestAssured;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.SneakyThrows;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.apache.http.HttpStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs the embeddable token validator against the running Guardian. The revocation feed is proxied
+ * through WireMock, so the tests can see the responses the mirror gets and take Guardian down.
+ */
+public class TokenValidatorIT {
+  private static final String tenant1 = TENANT_1;
+  private static final String ISSUER = "https://test.com";
+  private static final String KID = "validator-kid";
+  private static final String DELTA_PATH = "/v1/revocations/delta";
+  private static final long REFRESH_INTERVAL_MILLIS = 200;
+  private static final long WAIT_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(5);
+  private static KeyPair keyPair;
+
+  private WireMockServer wireMockServer;
+  private StubMapping feedStub;
+  private TokenValidator tokenValidator;
+
+  @BeforeAll
+  static void setup() {
+    keyPair = JWTUtils.generate2048_RSAKeyPair();
+  }
+
+  @BeforeEach
+  void startValidator() {
+    cleanupRedis();
+    feedStub =
+        wireMockServer.stubFor(
+            get(urlPathEqualTo(DELTA_PATH))
+                .willReturn(aResponse().proxiedFrom(RestAssured.baseURI + ":" + RestAssured.port)));
+    tokenValidator =
+        TokenValidator.builder()
+            .guardianUrl(wireMockServer.baseUrl())
+            .tenantId(tenant1)
+            .issuer(ISSUER)
+            .publicKeys(Map.of(KID, keyPair.publicKey))
+            .revocationsRefreshIntervalMillis(REFRESH_INTERVAL_MILLIS)
+            .build();
+  }
+
+  @AfterEach
+  void stopValidator() {
+    tokenValidator.close();
+    wireMockServer.removeStub(feedStub);
+  }
+
+  private static String signToken(String rftId) {
+    JWT jwt =
+        new JWT()
+            .setIssuer(ISSUER)
+            .setSubject(RandomStringUtils.randomNumeric(8))
+            .setIssuedAt(ZonedDateTime.now(ZoneOffset.UTC))
+            .setExpiration(ZonedDateTime.now(ZoneOffset.UTC).plusMinutes(15))
+            .addClaim("rft_id", rftId);
+    return JWT.getEncoder().encode(jwt, RSASigner.newSHA256Signer(keyPair.privateKey, KID));
+  }
+
+  private static String randomRftId() {
+    return DigestUtils.md5Hex(RandomStringUtils.randomAlphanumeric(32)).toUpperCase();
+  }
+
+  private boolean isRejected(String token) {
+    try {
+      tokenValidator.validate(token);
+      return false;
+    } catch (InvalidTokenException e) {
+      return true;
+    }
+  }
+
+  private long countFeedResponses(int status) {
+    return wireMockServer.getAllServeEvents().stream()
+        .filter(event -> event.getRequest().getUrl().startsWith(DELTA_PATH))
+        .filter(event -> event.getResponse().getStatus() == status)
+        .count();
+  }
+
+  private int countFeedRequests() {
+    return wireMockServer.findAll(getRequestedFor(urlPathEqualTo(DELTA_PATH))).size();
+  }
+
+  private String revokeAndSync() {
+    String rftId = randomRftId();
+    String token = signToken(rftId);
+    tokenValidator.validate(token);
+    addRevocations(tenant1, List.of(rftId));
+    assertThat(
+        pollUntil(() -> isRejected(token), rejected -> rejected, WAIT_TIMEOUT_MILLIS),
+        equalTo(true));
+    return token;
+  }
+
+  @Test
+  @DisplayName("Should reject a token once its refresh token is revoked")
+  void rejectsRevokedTokenAfterSync() {
+    // Arrange
+    String rftId = randomRftId();
+    String token = signToken(rftId);
+    String otherToken = signToken(randomRftId());
+    tokenValidator.validate(token);
+
+    // Act
+    addRevocations(tenant1, List.of(rftId));
+
+    // Assert
+    assertThat(
+        pollUntil(() -> isRejected(token), rejected -> rejected, WAIT_TIMEOUT_MILLIS),
+        equalTo(true));
+    InvalidTokenException e =
+        assertThrows(InvalidTokenException.class, () -> tokenValidator.validate(token));
+    assertThat(e.getMessage(), equalTo("Token revoked"));
+    assertThat(isRejected(otherToken), equalTo(false));
+    assertThat(tokenValidator.getMetrics().getRevokedCount(), greaterThan(0L));
+    assertThat(tokenValidator.getMetrics().getRevocationsSize(), equalTo(1));
+  }
+
+  @Test
+  @DisplayName("Should keep the mirror when an idle poll is not modified")
+  void idlePollKeepsMirror() {
+    // Arrange
+    String token = revokeAndSync();
+    long notModified = countFeedResponses(HttpStatus.SC_NOT_MODIFIED);
+
+    // Act
+    long polled =
+        pollUntil(
+            () -> countFeedResponses(HttpStatus.SC_NOT_MODIFIED),
+            count -> count >= notModified + 3,
+            WAIT_TIMEOUT_MILLIS);
+
+    // Assert
+    assertThat(polled, greaterThanOrEqualTo(notModified + 3));
+    assertThat(isRejected(token), equalTo(true));
+    assertThat(tokenValidator.getMetrics().getRevocationsSize(), equalTo(1));
+    assertThat(tokenValidator.getMetrics().getRefreshFailureCount(), equalTo(0L));
+  }
+
+  @Test
+  @DisplayName("Should keep the last synced mirror while Guardian is unreachable")
+  void outageKeepsLastMirror() {
+    // Arrange
+    String token = revokeAndSync();
+
+    // Act
+    wireMockServer.removeStub(feedStub);
+    feedStub =
+        wireMockServer.stubFor(
+            get(urlPathEqualTo(DELTA_PATH))
+                .willReturn(aResponse().withStatus(HttpStatus.SC_SERVICE_UNAVAILABLE)));
+
+    // Assert
+    assertThat(
+        pollUntil(
+            () -> tokenValidator.getMetrics().getRefreshFailureCount(),
+            failures -> failures >= 3,
+            WAIT_TIMEOUT_MILLIS),
+        greaterThanOrEqualTo(3L));
+    assertThat(isRejected(token), equalTo(true));
+    assertThat(tokenValidator.getMetrics().getRevocationsSize(), equalTo(1));
+  }
+
+  @Test
+  @DisplayName("Should stop polling Guardian once closed")
+  @SneakyThrows
+  void closeStopsSync() {
+    // Arrange
+    assertThat(
+        pollUntil(this::countFeedRequests, requests -> requests >= 3, WAIT_TIMEOUT_MILLIS),
+        greaterThanOrEqualTo(3));
+
+    // Act
+    tokenValidator.close();
+    Thread.sleep(REFRESH_INTERVAL_MILLIS * 2);
+    int requests = countFeedRequests();
+    Thread.sleep(REFRESH_INTERVAL_MILLIS * 5);
+
+    // Assert
+    assertThat(countFeedRequests(), equalTo(requests));
+  }
+}
@@ -2,6 +2,7 @@ package com.dreamsportslabs.guardian.it;
 
 import static com.dreamsportslabs.guardian.Constants.*;
 import static com.dreamsportslabs.guardian.utils.ApplicationIoUtils.*;
+import static com.dreamsportslabs.guardian.utils.PollUtils.pollUntil;
 import static com.dreamsportslabs.guardian.utils.ScopeUtils.getValidScopeRequestBody;
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
@@ -17,7 +18,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.tomakehurst.wiremock.WireMockServer;
 import com.github.tomakehurst.wiremock.stubbing.StubMapping;
 import io.restassured.response.Response;
+import io.vertx.core.json.JsonObject;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.http.HttpStatus;
 import org.junit.jupiter.api.BeforeAll;
@@ -237,4 +240,34 @@ public class UserInfoIT {
         .header("WWW-Authenticate", containsString("error_description=\"Token has expired\""));
     wireMockServer.removeStub(stub);
   }
+
+  @Test
+  @DisplayName("Should reject a verified token once its signing key is removed from the tenant")
+  public void testUserInfoAfterSigningKeyRemoved() {
+    // Arrange
+    StubMapping stub = getStubForUserInfoWithMultipleScopes();
+    getUserInfo(TENANT_1, VALID_ACCESS_TOKEN).then().statusCode(HttpStatus.SC_OK);
+    String rsaKeys = DbUtils.getRsaKeys(TENANT_1);
+    JsonObject message = new JsonObject().put("target", "tenant").put("tenantId", TENANT_1);
+
+    try {
+      // The keys of tenant3 do not include the kid the token was signed with
+      DbUtils.updateRsaKeys(TENANT_1, DbUtils.getRsaKeys(TENANT_3));
+
+      // Act
+      // No invalidation is published, the periodic config refresh has to notice the new version
+      Response response =
+          pollUntil(
+              () -> getUserInfo(TENANT_1, VALID_ACCESS_TOKEN),
+              r -> r.statusCode() != HttpStatus.SC_OK,
+              TimeUnit.SECONDS.toMillis(30));
+
+      // Assert
+      response.then().statusCode(HttpStatus.SC_UNAUTHORIZED);
+    } finally {
+      DbUtils.updateRsaKeys(TENANT_1, rsaKeys);
+      DbUtils.publishCacheInvalidation(message);
+      wireMockServer.removeStub(stub);
+    }
+  }
 }
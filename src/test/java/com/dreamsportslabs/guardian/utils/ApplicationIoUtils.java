@@ -3,6 +3,7 @@ package com.dreamsportslabs.guardian.utils;
 import static com.dreamsportslabs.guardian.Constants.BODY_PARAM_ACCESS_TOKEN;
 import static com.dreamsportslabs.guardian.Constants.BODY_PARAM_ADDITIONAL_INFO;
 import static com.dreamsportslabs.guardian.Constants.BODY_PARAM_CLIENT_ID;
+import static com.dreamsportslabs.guardian.Constants.BODY_PARAM_CODE;
 import static com.dreamsportslabs.guardian.Constants.BODY_PARAM_CONTACTS;
 import static com.dreamsportslabs.guardian.Constants.BODY_PARAM_FLOW;
 import static com.dreamsportslabs.guardian.Constants.BODY_PARAM_META_INFO;
@@ -17,6 +18,7 @@ import static com.dreamsportslabs.guardian.Constants.OIDC_BODY_PARAM_REFRESH_TOK
 import static com.dreamsportslabs.guardian.Constants.QUERY_PARAM_NAME;
 import static io.restassured.RestAssured.given;
 import static org.apache.http.HttpHeaders.CONTENT_TYPE;
+import static org.apache.http.HttpHeaders.IF_NONE_MATCH;
 
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
@@ -75,6 +77,16 @@ public class ApplicationIoUtils {
     return execute(body, headers, new HashMap<>(), spec -> spec.post("/v1/signup"));
   }
 
+  public static Response codeTokenExchange(String tenantId, String code) {
+    Map<String, String> headers = new HashMap<>();
+    headers.put(HEADER_TENANT_ID, tenantId);
+
+    Map<String, Object> body = new HashMap<>();
+    body.put(BODY_PARAM_CODE, code);
+
+    return execute(body, headers, new HashMap<>(), spec -> spec.post("/v1/code-token-exchange"));
+  }
+
   public static Response refreshToken(String tenantId, String refreshToken) {
     Map<String, String> headers = new HashMap<>();
     headers.put(HEADER_TENANT_ID, tenantId);
@@ -266,6 +278,31 @@ public class ApplicationIoUtils {
     return execute(null, headers, new HashMap<>(), spec -> spec.get("/v1/certs"));
   }
 
+  public static Response getRevocations(String tenantId, Map<String, String> queryParams) {
+    Map<String, String> headers = new HashMap<>();
+    headers.put(HEADER_TENANT_ID, tenantId);
+
+    return execute(null, headers, queryParams, spec -> spec.get("/v1/revocations"));
+  }
+
+  public static Response getRevocationsSnapshot(String tenantId, Map<String, String> queryParams) {
+    Map<String, String> headers = new HashMap<>();
+    headers.put(HEADER_TENANT_ID, tenantId);
+
+    return execute(null, headers, queryParams, spec -> spec.get("/v1/revocations/snapshot"));
+  }
+
+  public static Response getRevocationsDelta(
+      String tenantId, Map<String, String> queryParams, String ifNoneMatch) {
+    Map<String, String> headers = new HashMap<>();
+    headers.put(HEADER_TENANT_ID, tenantId);
+    if (ifNoneMatch != null) {
+      headers.put(IF_NONE_MATCH, ifNoneMatch);
+    }
+
+    return execute(null, headers, queryParams, spec -> spec.get("/v1/revocations/delta"));
+  }
+
   // Client API methods
   public static Response createClient(String tenantId, Map<String, Object> body) {
     Map<String, String> headers = new HashMap<>();
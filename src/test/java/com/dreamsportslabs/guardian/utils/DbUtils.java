@@ -20,6 +20,7 @@ import org.apache.commons.lang3.RandomStringUtils;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisPool;
 import redis.clients.jedis.JedisPoolConfig;
+import redis.clients.jedis.StreamEntryID;
 
 @Slf4j
 public class DbUtils {
@@ -214,6 +215,26 @@ public class DbUtils {
     }
   }
 
+  public static void createCode(
+      String tenantId, String code, String userId, String clientId, int ttl) {
+    String key = "CODE" + "_" + tenantId + "_" + code;
+    JsonObject value =
+        new JsonObject()
+            .put("code", code)
+            .put("user", new JsonObject().put("userId", userId))
+            .put("clientId", clientId)
+            .put("scopes", List.of())
+            .put("authMethods", List.of())
+            .put("metaInfo", new JsonObject())
+            .put("expiry", ttl);
+
+    try (Jedis jedis = redisConnectionPool.getResource()) {
+      jedis.setex(key, ttl, value.toString());
+    } catch (Exception e) {
+      log.error("Error setting key in Redis: ", e);
+    }
+  }
+
   public static void createContactOtpSendState(
       String tenantId,
       String state,
@@ -330,6 +351,24 @@ public class DbUtils {
     }
   }
 
+  /** Adds revocations the way a logout does, to the time indexed set and to the stream. */
+  public static void addRevocations(String tenantId, List<String> rftIds) {
+    addRevocations(tenantId, rftIds, Instant.now().getEpochSecond());
+  }
+
+  public static void addRevocations(String tenantId, List<String> rftIds, long revokedAt) {
+    try (Jedis jedis = redisConnectionPool.getResource()) {
+      for (String rftId : rftIds) {
+        jedis.zadd("revocations_" + tenantId, revokedAt, rftId);
+        jedis.xadd(
+            "revocation_stream_" + tenantId, StreamEntryID.NEW_ENTRY, Map.of("rft_id", rftId));
+      }
+    } catch (Exception e) {
+      log.error("Error adding revocations to Redis: ", e);
+      throw new RuntimeException("Error adding revocations to Redis", e);
+    }
+  }
+
   public static boolean isRefreshTokenRevoked(String refreshToken, String tenantId) {
     String rftId = org.apache.commons.codec.digest.DigestUtils.md5Hex(refreshToken).toUpperCase();
     List<String> revocations = getRevocationsFromRedis(tenantId);
@@ -778,4 +817,101 @@ public class DbUtils {
     }
     return false;
   }
+
+  public static void updateClientName(String tenantId, String clientId, String clientName) {
+    String updateQuery = "UPDATE client SET client_name = ? WHERE tenant_id = ? AND client_id = ?";
+
+    try (Connection conn = mysqlConnectionPool.getConnection();
+        PreparedStatement stmt = conn.prepareStatement(updateQuery)) {
+      stmt.setString(1, clientName);
+      stmt.setString(2, tenantId);
+      stmt.setString(3, clientId);
+      stmt.executeUpdate();
+    } catch (Exception e) {
+      log.error("Error while updating client name", e);
+    }
+  }
+
+  public static void updateAccessTokenExpiry(String tenantId, int accessTokenExpiry) {
+    String updateQuery = "UPDATE token_config SET access_token_expiry = ? WHERE tenant_id = ?";
+
+    try (Connection conn = mysqlConnectionPool.getConnection();
+        PreparedStatement stmt = conn.prepareStatement(updateQuery)) {
+      stmt.setInt(1, accessTokenExpiry);
+      stmt.setString(2, tenantId);
+      stmt.executeUpdate();
+    } catch (Exception e) {
+      log.error("Error while updating access token expiry", e);
+    }
+  }
+
+  public static String getRsaKeys(String tenantId) {
+    String query = "SELECT rsa_keys FROM token_config WHERE tenant_id = ?";
+
+    try (Connection conn = mysqlConnectionPool.getConnection();
+        PreparedStatement stmt = conn.prepareStatement(query)) {
+      stmt.setString(1, tenantId);
+      var rs = stmt.executeQuery();
+      if (rs.next()) {
+        return rs.getString(1);
+      }
+    } catch (Exception e) {
+      log.error("Error while fetching rsa keys", e);
+    }
+    return null;
+  }
+
+  public static void updateRsaKeys(String tenantId, String rsaKeys) {
+    String updateQuery = "UPDATE token_config SET rsa_keys = ? WHERE tenant_id = ?";
+
+    try (Connection conn = mysqlConnectionPool.getConnection();
+        PreparedStatement stmt = conn.prepareStatement(updateQuery)) {
+      stmt.setString(1, rsaKeys);
+      stmt.setString(2, tenantId);
+      stmt.executeUpdate();
+    } catch (Exception e) {
+      log.error("Error while updating rsa keys", e);
+    }
+  }
+
+  public static void addOidcScope(String tenantId, String scope) {
+    String addScopeQuery =
+        "INSERT INTO scope (tenant_id, name, claims, is_oidc) VALUES (?, ?, json_array(), 1)";
+
+    try (Connection conn = mysqlConnectionPool.getConnection();
+        PreparedStatement stmt = conn.prepareStatement(addScopeQuery)) {
+      stmt.setString(1, tenantId);
+      stmt.setString(2, scope);
+      stmt.executeUpdate();
+    } catch (Exception e) {
+      log.error("Error while adding OIDC scope", e);
+    }
+  }
+
+  public static void deleteScope(String tenantId, String scope) {
+    String deleteQuery = "DELETE FROM scope WHERE tenant_id = ? AND name = ?";
+
+    try (Connection conn = mysqlConnectionPool.getConnection();
+        PreparedStatement stmt = conn.prepareStatement(deleteQuery)) {
+      stmt.setString(1, tenantId);
+      stmt.setString(2, scope);
+      stmt.executeUpdate();
+    } catch (Exception e) {
+      log.error("Error while deleting scope", e);
+    }
+  }
+
+  /** Publishes a cache invalidation the way another Guardian node does. */
+  public static void publishCacheInvalidation(JsonObject message) {
+    publishCacheInvalidation(message.encode());
+  }
+
+  public static void publishCacheInvalidation(String message) {
+    try (Jedis jedis = redisConnectionPool.getResource()) {
+      jedis.publish("guardian_cache_invalidation", message);
+    } catch (Exception e) {
+      log.error("Error publishing cache invalidation: ", e);
+      throw new RuntimeException("Error publishing cache invalidation", e);
+    }
+  }
 }
@@ -0,0 +1,24 @@
+package com.dreamsportslabs.guardian.utils;
+
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import lombok.SneakyThrows;
+
+public class PollUtils {
+  private static final long POLL_INTERVAL_MILLIS = 100;
+
+  /**
+   * Reads until the value is done or the timeout elapses, and returns the last value read, so the
+   * caller's assertion reports what was actually observed.
+   */
+  @SneakyThrows
+  public static <T> T pollUntil(Supplier<T> read, Predicate<T> done, long timeoutMillis) {
+    long deadline = System.currentTimeMillis() + timeoutMillis;
+    T value = read.get();
+    while (!done.test(value) && System.currentTimeMillis() < deadline) {
+      Thread.sleep(POLL_INTERVAL_MILLIS);
+      value = read.get();
+    }
+    return value;
+  }
+}